@@ -0,0 +1,104 @@
+package io.kestra.plugin.todoist.client;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounds the number of requests in flight for an API token with an AIMD policy: the limit grows by one request per
+ * limit's worth of healthy responses, and is halved when the API answers 429 or 5xx. A response is healthy when its
+ * latency stays within {@link #LATENCY_TOLERANCE} times the smoothed latency observed so far.
+ * <p>
+ * Limiters are shared by every task run of the worker using the same token, as they share its rate limit, and are
+ * dropped once idle for {@link TokenRegistry#IDLE_TIMEOUT}.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    static final double INITIAL_LIMIT = 4;
+
+    static final double MIN_LIMIT = 1;
+
+    static final double MAX_LIMIT = 64;
+
+    static final double LATENCY_TOLERANCE = 2.0;
+
+    private static final double LATENCY_SMOOTHING = 0.1;
+
+    private static final TokenRegistry<AdaptiveConcurrencyLimiter> LIMITERS = new TokenRegistry<>(AdaptiveConcurrencyLimiter::isIdle);
+
+    // a lock rather than a monitor, so waiting virtual threads do not pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition available = lock.newCondition();
+
+    private double limit;
+
+    private int inFlight = 0;
+
+    private double latencyMillis = -1;
+
+    AdaptiveConcurrencyLimiter(double initialLimit) {
+        this.limit = initialLimit;
+    }
+
+    public static AdaptiveConcurrencyLimiter forToken(String apiToken) {
+        return LIMITERS.get(apiToken, () -> new AdaptiveConcurrencyLimiter(INITIAL_LIMIT));
+    }
+
+    boolean isIdle() {
+        lock.lock();
+        try {
+            return inFlight == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                available.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param latency    the duration of the request, up to the start of its response for streamed ones
+     * @param overloaded whether the API answered 429 or 5xx
+     */
+    public void release(Duration latency, boolean overloaded) {
+        lock.lock();
+        try {
+            inFlight--;
+
+            if (overloaded) {
+                limit = Math.max(MIN_LIMIT, limit / 2);
+            } else {
+                double millis = latency.toNanos() / 1_000_000.0;
+                boolean healthy = latencyMillis < 0 || millis <= latencyMillis * LATENCY_TOLERANCE;
+
+                latencyMillis = latencyMillis < 0 ? millis : latencyMillis + LATENCY_SMOOTHING * (millis - latencyMillis);
+                if (healthy) {
+                    limit = Math.min(MAX_LIMIT, limit + 1 / limit);
+                }
+            }
+
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.kestra.plugin.todoist.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records the requests sent by {@link TodoistClient} with their responses to a JSON file, and replays them later without any
+ * network call, so flows and tests can exercise the plugin deterministically.
+ * <p>
+ * Requests are matched on method, path, sorted query parameters and JSON body, with object keys sorted and the random
+ * {@code uuid} / {@code temp_id} values of Sync commands masked. Those values are substituted back in the replayed response,
+ * so the caller finds its own command identifiers. Identical requests are replayed in recording order, the last one repeating.
+ * <p>
+ * A cassette is installed by tests with {@link #install(Path, Mode)}.
+ */
+public class Cassette {
+
+    public enum Mode {
+        RECORD,
+        REPLAY
+    }
+
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson().copy()
+        .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private static final Set<String> VOLATILE_FIELDS = Set.of("uuid", "temp_id");
+
+    private static final String MASK = "<volatile>";
+
+    private static volatile Cassette installed;
+
+    private final Path path;
+
+    private final Mode mode;
+
+    private final List<Interaction> interactions = new ArrayList<>();
+
+    private final Map<String, Integer> cursors = new HashMap<>();
+
+    private Cassette(Path path, Mode mode) throws IOException {
+        this.path = path;
+        this.mode = mode;
+
+        if (mode == Mode.REPLAY) {
+            // bodies are normalized again, so cassettes can be written or edited by hand
+            for (Interaction interaction : MAPPER.readValue(path.toFile(), Interaction[].class)) {
+                interactions.add(new Interaction(
+                    interaction.method(),
+                    interaction.path(),
+                    interaction.query(),
+                    normalize(interaction.body(), new ArrayList<>()),
+                    interaction.volatileValues() != null ? interaction.volatileValues() : List.of(),
+                    interaction.status(),
+                    interaction.response()
+                ));
+            }
+        }
+    }
+
+    public static synchronized Cassette install(Path path, Mode mode) throws IOException {
+        installed = new Cassette(path, mode);
+        return installed;
+    }
+
+    public static synchronized void uninstall() {
+        installed = null;
+    }
+
+    static Cassette current() {
+        return installed;
+    }
+
+    public boolean isReplaying() {
+        return mode == Mode.REPLAY;
+    }
+
+    synchronized String replay(String method, URI uri, String body) throws Exception {
+        List<String> volatileValues = new ArrayList<>();
+        String key = key(method, uri, normalize(body, volatileValues));
+
+        List<Interaction> candidates = interactions.stream()
+            .filter(interaction -> interaction.key().equals(key))
+            .toList();
+        if (candidates.isEmpty()) {
+            throw new TodoistApiException("No recorded interaction for " + method + " " + uri.getPath());
+        }
+
+        int cursor = cursors.merge(key, 1, Integer::sum) - 1;
+        Interaction interaction = candidates.get(Math.min(cursor, candidates.size() - 1));
+
+        String response = interaction.response();
+        for (int i = 0; i < volatileValues.size() && i < interaction.volatileValues().size(); i++) {
+            response = response.replace(interaction.volatileValues().get(i), volatileValues.get(i));
+        }
+
+        if (interaction.status() >= 400) {
+            throw new TodoistApiException(response, interaction.status());
+        }
+
+        return response;
+    }
+
+    synchronized void record(String method, URI uri, String body, int status, String response) throws IOException {
+        List<String> volatileValues = new ArrayList<>();
+        String normalizedBody = normalize(body, volatileValues);
+
+        interactions.add(new Interaction(method, uri.getPath(), sortedQuery(uri), normalizedBody, volatileValues, status, response));
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), interactions);
+    }
+
+    private static String key(String method, URI uri, String normalizedBody) {
+        return method + " " + uri.getPath() + "?" + sortedQuery(uri) + "\n" + normalizedBody;
+    }
+
+    private static String sortedQuery(URI uri) {
+        if (uri.getRawQuery() == null || uri.getRawQuery().isEmpty()) {
+            return "";
+        }
+
+        return String.join("&", Arrays.stream(uri.getRawQuery().split("&")).sorted().toList());
+    }
+
+    /**
+     * @param volatileValues collects the masked values, in document order
+     * @return the body with sorted keys and masked volatile values, or the body as is when it is not JSON
+     */
+    static String normalize(String body, List<String> volatileValues) {
+        if (body == null || body.isBlank()) {
+            return "";
+        }
+
+        try {
+            JsonNode node = MAPPER.readTree(body);
+            mask(node, volatileValues);
+            return MAPPER.writeValueAsString(MAPPER.treeToValue(node, Object.class));
+        } catch (IOException e) {
+            return body;
+        }
+    }
+
+    private static void mask(JsonNode node, List<String> volatileValues) {
+        if (node instanceof ObjectNode object) {
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            Map<String, JsonNode> masked = new LinkedHashMap<>();
+
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (VOLATILE_FIELDS.contains(field.getKey()) && field.getValue().isTextual()) {
+                    volatileValues.add(field.getValue().asText());
+                    masked.put(field.getKey(), TextNode.valueOf(MASK));
+                } else {
+                    mask(field.getValue(), volatileValues);
+                }
+            }
+
+            masked.forEach(object::set);
+        } else if (node instanceof ArrayNode array) {
+            array.forEach(item -> mask(item, volatileValues));
+        }
+    }
+
+    record Interaction(String method, String path, String query, String body, List<String> volatileValues, int status, String response) {
+        String key() {
+            return method + " " + path + "?" + (query != null ? query : "") + "\n" + (body != null ? body : "");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.kestra.plugin.todoist.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Aggregates single Sync API commands issued by concurrent task runs of the same worker and sharing the same API token,
+ * and sends them as one Sync request once {@link #MAX_COMMANDS} are queued or {@link #WINDOW} has elapsed since the first one.
+ * Each caller is completed with the outcome of its own command.
+ * <p>
+ * Batches are sent with a client owned by the batcher rather than one bound to a caller's run context,
+ * as a batch carries the commands of several task runs.
+ */
+public class SyncCommandBatcher {
+
+    static final Duration WINDOW = Duration.ofMillis(50);
+
+    static final int MAX_COMMANDS = 100;
+
+    private static final TokenRegistry<SyncCommandBatcher> BATCHERS = new TokenRegistry<>(SyncCommandBatcher::isIdle);
+
+    private final TodoistClient client;
+
+    private final List<PendingCommand> queue = new ArrayList<>();
+
+    private boolean scheduled = false;
+
+    private SyncCommandBatcher(String apiToken, String syncBaseUrl) {
+        this.client = new TodoistClient(apiToken, syncBaseUrl);
+    }
+
+    /**
+     * @param syncBaseUrl the Sync API base URL the batches are sent to
+     */
+    public static SyncCommandBatcher of(String apiToken, String syncBaseUrl) {
+        return BATCHERS.get(syncBaseUrl + " " + apiToken, () -> new SyncCommandBatcher(apiToken, syncBaseUrl));
+    }
+
+    synchronized boolean isIdle() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * Queues a command and waits for the batch containing it to be sent.
+     *
+     * @return the ID of the created object for commands creating one, otherwise the {@code id} argument of the command
+     */
+    public String execute(String type, Map<String, Object> args) throws Exception {
+        try {
+            return submit(type, args).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    public CompletableFuture<String> submit(String type, Map<String, Object> args) {
+        Map<String, Object> command = new LinkedHashMap<>();
+        command.put("type", type);
+        command.put("uuid", UUID.randomUUID().toString());
+        command.put("temp_id", UUID.randomUUID().toString());
+        command.put("args", args);
+
+        PendingCommand pending = new PendingCommand(command, new CompletableFuture<>());
+        List<PendingCommand> full = null;
+
+        synchronized (this) {
+            queue.add(pending);
+
+            if (queue.size() >= MAX_COMMANDS) {
+                full = drain();
+            } else if (!scheduled) {
+                scheduled = true;
+                Thread.ofVirtual().name("todoist-sync-batcher").start(() -> {
+                    try {
+                        Thread.sleep(WINDOW);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    List<PendingCommand> batch;
+                    synchronized (this) {
+                        batch = drain();
+                    }
+                    flush(batch);
+                });
+            }
+        }
+
+        if (full != null) {
+            flush(full);
+        }
+
+        return pending.result();
+    }
+
+    private List<PendingCommand> drain() {
+        List<PendingCommand> batch = new ArrayList<>(queue);
+        queue.clear();
+        scheduled = false;
+
+        return batch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flush(List<PendingCommand> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> response;
+        try {
+            response = client.post("/sync", Map.of("commands", batch.stream().map(PendingCommand::command).toList()));
+        } catch (Exception e) {
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+
+        Map<String, Object> syncStatus = (Map<String, Object>) response.getOrDefault("sync_status", Map.of());
+        Map<String, Object> tempIdMapping = (Map<String, Object>) response.getOrDefault("temp_id_mapping", Map.of());
+
+        for (PendingCommand pending : batch) {
+            Object status = syncStatus.get(pending.command().get("uuid").toString());
+
+            if ("ok".equals(status)) {
+                Object id = tempIdMapping.get(pending.command().get("temp_id").toString());
+                if (id == null) {
+                    id = ((Map<String, Object>) pending.command().get("args")).get("id");
+                }
+                pending.result().complete(id != null ? id.toString() : null);
+            } else {
+                pending.result().completeExceptionally(new TodoistApiException("Sync command " + pending.command().get("type") + " failed: " + status));
+            }
+        }
+    }
+
+    private record PendingCommand(Map<String, Object> command, CompletableFuture<String> result) {
+    }
+}
@@ -1,12 +1,34 @@
 package io.kestra.plugin.todoist.client;
 
 public class TodoistApiException extends Exception {
-    
+
+    private final Integer statusCode;
+
     public TodoistApiException(String message) {
+        this(message, (Integer) null);
+    }
+
+    public TodoistApiException(String message, Integer statusCode) {
         super(message);
+        this.statusCode = statusCode;
     }
-    
+
     public TodoistApiException(String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = null;
+    }
+
+    /**
+     * @return the HTTP status code of the failed request, or {@code null} when the failure is not an HTTP error
+     */
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return whether the API asked to slow down (429) or failed on its side (5xx)
+     */
+    public boolean isOverloaded() {
+        return statusCode != null && (statusCode == 429 || statusCode >= 500);
     }
 }
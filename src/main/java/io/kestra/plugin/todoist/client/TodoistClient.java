@@ -1,112 +1,510 @@
 package io.kestra.plugin.todoist.client;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kestra.core.http.HttpRequest;
 import io.kestra.core.http.HttpResponse;
 import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.HttpClientResponseException;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.JacksonMapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class TodoistClient {
-    
+
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final java.net.http.HttpClient DETACHED_CLIENT = java.net.http.HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(30))
+        .build();
+
     private final RunContext runContext;
     private final String apiToken;
     private final String baseUrl;
-    
-    public TodoistClient(RunContext runContext, String apiToken, String baseUrl) {
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public TodoistClient(RunContext runContext, String apiToken, String baseUrl, AdaptiveConcurrencyLimiter limiter) {
         this.runContext = runContext;
         this.apiToken = apiToken;
         this.baseUrl = baseUrl;
+        this.limiter = limiter;
+    }
+
+    public TodoistClient(RunContext runContext, String apiToken, String baseUrl) {
+        this(runContext, apiToken, baseUrl, null);
     }
     
+    /**
+     * A client bound to no task run, for requests carrying the work of several task runs such as a
+     * {@link SyncCommandBatcher} flush. It sends JSON requests only, through a JDK HTTP client.
+     */
+    TodoistClient(String apiToken, String baseUrl) {
+        this(null, apiToken, baseUrl, null);
+    }
+
     public TodoistClient(RunContext runContext, String apiToken) {
         this(runContext, apiToken, "https://api.todoist.com/rest/v2");
     }
     
     private HttpRequest.HttpRequestBuilder createRequestBuilder(String url) {
+        return authorizedRequestBuilder(url)
+            .addHeader("Content-Type", "application/json");
+    }
+
+    private HttpRequest.HttpRequestBuilder authorizedRequestBuilder(String url) {
         return HttpRequest.builder()
             .uri(URI.create(url))
-            .addHeader("Authorization", "Bearer " + apiToken)
-            .addHeader("Content-Type", "application/json");
+            .addHeader("Authorization", "Bearer " + apiToken);
     }
     
-    private HttpResponse<String> sendRequest(HttpRequest request) throws Exception {
-        HttpClient client = HttpClient.builder()
-            .runContext(runContext)
+    /**
+     * Sends a request and returns its response body, or replays it from the installed {@link Cassette} if any.
+     *
+     * @param body the request body, used to match the request against recorded ones
+     */
+    private String sendRequest(HttpRequest request, String body) throws Exception {
+        Cassette cassette = Cassette.current();
+        if (cassette != null && cassette.isReplaying()) {
+            return cassette.replay(request.getMethod(), request.getUri(), body);
+        }
+
+        try {
+            String response = limited(() -> {
+                if (runContext == null) {
+                    return sendDetached(request, body);
+                }
+
+                try (HttpClient client = HttpClient.builder().runContext(runContext).build()) {
+                    HttpResponse<String> httpResponse = client.request(request, String.class);
+
+                    if (httpResponse.getStatus().getCode() >= 400) {
+                        throw new TodoistApiException("API request failed: " + httpResponse.getStatus().getCode() + " - " + httpResponse.getBody(), httpResponse.getStatus().getCode());
+                    }
+
+                    return httpResponse.getBody();
+                }
+            });
+
+            if (cassette != null) {
+                cassette.record(request.getMethod(), request.getUri(), body, 200, response);
+            }
+
+            return response;
+        } catch (TodoistApiException e) {
+            if (cassette != null && e.getStatusCode() != null) {
+                cassette.record(request.getMethod(), request.getUri(), body, e.getStatusCode(), e.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    private String sendDetached(HttpRequest request, String body) throws Exception {
+        java.net.http.HttpRequest httpRequest = java.net.http.HttpRequest.newBuilder(request.getUri())
+            .header("Authorization", "Bearer " + apiToken)
+            .header("Content-Type", "application/json")
+            .method(request.getMethod(), body != null
+                ? java.net.http.HttpRequest.BodyPublishers.ofString(body)
+                : java.net.http.HttpRequest.BodyPublishers.noBody())
             .build();
-        return client.request(request, String.class);
+
+        java.net.http.HttpResponse<String> httpResponse = DETACHED_CLIENT.send(httpRequest, java.net.http.HttpResponse.BodyHandlers.ofString());
+
+        if (httpResponse.statusCode() >= 400) {
+            throw new TodoistApiException("API request failed: " + httpResponse.statusCode() + " - " + httpResponse.body(), httpResponse.statusCode());
+        }
+
+        return httpResponse.body();
+    }
+
+    /**
+     * Runs a call on a virtual thread, so that callers can overlap several requests and only wait when they need the
+     * results. A blocked virtual thread releases its carrier, so pending requests do not hold platform threads.
+     * Cancelling the returned future interrupts the thread, which aborts the request's socket I/O.
+     */
+    private static <T> CompletableFuture<T> async(Callable<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = EXECUTOR.submit(() -> {
+            try {
+                result.complete(call.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                running.cancel(true);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Waits for a future returned by one of the {@code ...Async} methods, rethrowing the exception it failed with.
+     * When the waiting thread is interrupted, e.g. because the task run is killed, the request is cancelled too.
+     */
+    public static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> parseMap(String response) throws IOException {
+        return MAPPER.readValue(response, Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> parseList(String response) throws IOException {
+        return MAPPER.readValue(response, List.class);
+    }
+
+    /**
+     * Runs a request under the adaptive limiter, if any, feeding it the request latency and whether the API was overloaded.
+     * HTTP errors raised by the Kestra client are reported as {@link TodoistApiException} carrying the status code.
+     */
+    private <T> T limited(Callable<T> call) throws Exception {
+        Permit permit = Permit.acquire(limiter);
+        boolean overloaded = false;
+
+        try {
+            return translateErrors(call);
+        } catch (TodoistApiException e) {
+            overloaded = e.isOverloaded();
+            throw e;
+        } finally {
+            permit.release(overloaded);
+        }
+    }
+
+    private static <T> T translateErrors(Callable<T> call) throws Exception {
+        try {
+            return call.call();
+        } catch (HttpClientResponseException e) {
+            Integer statusCode = e.getResponse() != null ? e.getResponse().getStatus().getCode() : null;
+            throw new TodoistApiException("API request failed: " + (statusCode != null ? statusCode + " - " : "") + e.getMessage(), statusCode);
+        }
     }
     
+    // The blocking methods send on the calling thread: a hop to a virtual thread would free no platform thread,
+    // and an interrupt of the caller reaches the request directly. Each ...Async variant runs its blocking
+    // counterpart through async(), so that cancelling the returned future interrupts the request.
+
     public Map<String, Object> post(String endpoint, Map<String, Object> body) throws Exception {
-        String jsonBody = JacksonMapper.ofJson().writeValueAsString(body);
-        
+        String jsonBody = MAPPER.writeValueAsString(body);
+
         HttpRequest request = createRequestBuilder(baseUrl + endpoint)
             .method("POST")
             .body(HttpRequest.StringRequestBody.builder().content(jsonBody).build())
             .build();
-        
-        HttpResponse<String> response = sendRequest(request);
-        
-        if (response.getStatus().getCode() >= 400) {
-            throw new TodoistApiException("API request failed: " + response.getStatus().getCode() + " - " + response.getBody());
-        }
-        
-        return JacksonMapper.ofJson().readValue(response.getBody(), Map.class);
+
+        return parseMap(sendRequest(request, jsonBody));
     }
-    
+
+    public CompletableFuture<Map<String, Object>> postAsync(String endpoint, Map<String, Object> body) {
+        return async(() -> post(endpoint, body));
+    }
+
     public Map<String, Object> get(String endpoint) throws Exception {
-        HttpRequest request = createRequestBuilder(baseUrl + endpoint)
-            .method("GET")
-            .build();
-        
-        HttpResponse<String> response = sendRequest(request);
-        
-        if (response.getStatus().getCode() >= 400) {
-            throw new TodoistApiException("API request failed: " + response.getStatus().getCode() + " - " + response.getBody());
-        }
-        
-        return JacksonMapper.ofJson().readValue(response.getBody(), Map.class);
+        return parseMap(sendRequest(getRequest(endpoint), null));
     }
-    
+
+    public CompletableFuture<Map<String, Object>> getAsync(String endpoint) {
+        return async(() -> get(endpoint));
+    }
+
     public List<Map<String, Object>> getList(String endpoint) throws Exception {
-        HttpRequest request = createRequestBuilder(baseUrl + endpoint)
+        return parseList(sendRequest(getRequest(endpoint), null));
+    }
+
+    public CompletableFuture<List<Map<String, Object>>> getListAsync(String endpoint) {
+        return async(() -> getList(endpoint));
+    }
+
+    private HttpRequest getRequest(String endpoint) {
+        return createRequestBuilder(baseUrl + endpoint)
             .method("GET")
             .build();
-        
-        HttpResponse<String> response = sendRequest(request);
-        
-        if (response.getStatus().getCode() >= 400) {
-            throw new TodoistApiException("API request failed: " + response.getStatus().getCode() + " - " + response.getBody());
-        }
-        
-        return JacksonMapper.ofJson().readValue(response.getBody(), List.class);
     }
-    
+
     public void delete(String endpoint) throws Exception {
         HttpRequest request = createRequestBuilder(baseUrl + endpoint)
             .method("DELETE")
             .build();
-        
-        HttpResponse<String> response = sendRequest(request);
-        
-        if (response.getStatus().getCode() >= 400) {
-            throw new TodoistApiException("API request failed: " + response.getStatus().getCode() + " - " + response.getBody());
-        }
+
+        sendRequest(request, null);
     }
-    
+
+    public CompletableFuture<Void> deleteAsync(String endpoint) {
+        return async(() -> {
+            delete(endpoint);
+            return null;
+        });
+    }
+
     public void postVoid(String endpoint) throws Exception {
         HttpRequest request = createRequestBuilder(baseUrl + endpoint)
             .method("POST")
             .body(HttpRequest.StringRequestBody.builder().content("").build())
             .build();
-        
-        HttpResponse<String> response = sendRequest(request);
-        
-        if (response.getStatus().getCode() >= 400) {
-            throw new TodoistApiException("API request failed: " + response.getStatus().getCode() + " - " + response.getBody());
+
+        sendRequest(request, "");
+    }
+
+    public CompletableFuture<Void> postVoidAsync(String endpoint) {
+        return async(() -> {
+            postVoid(endpoint);
+            return null;
+        });
+    }
+
+    /**
+     * Uploads a local file as a multipart {@code file} part. The file is streamed from disk by the HTTP client,
+     * so its size does not count against the heap.
+     *
+     * @return the upload metadata returned by Todoist ({@code file_name}, {@code file_url}, {@code file_type}, ...)
+     */
+    public Map<String, Object> upload(String endpoint, File file, String fileName) throws Exception {
+        HttpRequest request = authorizedRequestBuilder(baseUrl + endpoint)
+            .method("POST")
+            .body(HttpRequest.MultipartRequestBody.builder()
+                .content(Map.of(
+                    "file_name", fileName,
+                    "file", file
+                ))
+                .build())
+            .build();
+
+        // The file content is not part of the cassette key: two uploads of the same name replay alike.
+        String response = sendRequest(request, MAPPER.writeValueAsString(Map.of("file_name", fileName)));
+        return parseMap(response);
+    }
+
+    public CompletableFuture<Map<String, Object>> uploadAsync(String endpoint, File file, String fileName) {
+        return async(() -> upload(endpoint, file, fileName));
+    }
+
+    /**
+     * Streams the JSON array returned by {@code endpoint} one object at a time, without materializing the response body.
+     *
+     * @param arrayField when the response is a JSON object, the name of the top-level field holding the array; {@code null} when the response is the array itself
+     * @return the number of records passed to the handler
+     */
+    public long stream(String endpoint, String arrayField, RecordHandler handler) throws Exception {
+        HttpRequest request = createRequestBuilder(baseUrl + endpoint)
+            .method("GET")
+            .build();
+
+        Cassette cassette = Cassette.current();
+        if (cassette != null && cassette.isReplaying()) {
+            String body = cassette.replay(request.getMethod(), request.getUri(), null);
+            return readArray(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), arrayField, handler);
+        }
+
+        // the permit is only held until the response starts: the handler may itself wait on requests made under the
+        // same limiter, and its duration must not count as request latency
+        Permit permit = Permit.acquire(limiter);
+        boolean overloaded = false;
+
+        try {
+            AtomicLong count = new AtomicLong();
+            AtomicReference<Exception> failure = new AtomicReference<>();
+
+            translateErrors(() -> {
+                try (HttpClient client = HttpClient.builder().runContext(runContext).build()) {
+                    client.request(request, response -> {
+                        int status = response.getStatus().getCode();
+                        permit.release(status == 429 || status >= 500);
+
+                        // when recording, the body is captured as it is streamed
+                        ByteArrayOutputStream recorded = cassette != null ? new ByteArrayOutputStream() : null;
+
+                        try (InputStream body = recorded != null ? new TeeInputStream(response.getBody(), recorded) : response.getBody()) {
+                            if (status >= 400) {
+                                throw new TodoistApiException("API request failed: " + status + " - " + new String(body.readAllBytes()), status);
+                            }
+                            count.set(readArray(body, arrayField, handler));
+
+                            if (recorded != null) {
+                                body.transferTo(OutputStream.nullOutputStream());
+                                cassette.record(request.getMethod(), request.getUri(), null, status, recorded.toString(StandardCharsets.UTF_8));
+                            }
+                        } catch (Exception e) {
+                            failure.set(e);
+                        }
+                    });
+                }
+                return null;
+            });
+
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+
+            return count.get();
+        } catch (TodoistApiException e) {
+            overloaded = e.isOverloaded();
+            throw e;
+        } finally {
+            permit.release(overloaded);
+        }
+    }
+
+    /**
+     * Runs {@link #stream(String, String, RecordHandler)} on a virtual thread; the handler is called from that thread.
+     */
+    public CompletableFuture<Long> streamAsync(String endpoint, String arrayField, RecordHandler handler) {
+        return async(() -> stream(endpoint, arrayField, handler));
+    }
+
+    /**
+     * Streams every page of an offset-paginated endpoint, requesting {@code pageSize} records at a time until a short page is returned.
+     *
+     * @param endpoint the endpoint including its query string, without the {@code limit} and {@code offset} parameters
+     * @return the total number of records passed to the handler
+     */
+    public long streamPages(String endpoint, String arrayField, int pageSize, RecordHandler handler) throws Exception {
+        String separator = endpoint.contains("?") ? "&" : "?";
+        long total = 0;
+        long page;
+
+        do {
+            page = stream(endpoint + separator + "limit=" + pageSize + "&offset=" + total, arrayField, handler);
+            total += page;
+        } while (page == pageSize);
+
+        return total;
+    }
+
+    /**
+     * Runs {@link #streamPages(String, String, int, RecordHandler)} on a virtual thread; the handler is called from that thread.
+     */
+    public CompletableFuture<Long> streamPagesAsync(String endpoint, String arrayField, int pageSize, RecordHandler handler) {
+        return async(() -> streamPages(endpoint, arrayField, pageSize, handler));
+    }
+
+    private static long readArray(InputStream body, String arrayField, RecordHandler handler) throws Exception {
+        long count = 0;
+
+        // the body is left open, so that a recording stream can read what follows the array
+        try (JsonParser parser = MAPPER.createParser(body).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)) {
+            JsonToken token = parser.nextToken();
+
+            if (arrayField != null && token == JsonToken.START_OBJECT) {
+                token = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (arrayField.equals(name)) {
+                        token = value;
+                        break;
+                    }
+                    parser.skipChildren();
+                }
+            }
+
+            if (token != JsonToken.START_ARRAY) {
+                throw new TodoistApiException("Unexpected API response: expected a JSON array" + (arrayField != null ? " in field '" + arrayField + "'" : ""));
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> record = MAPPER.readValue(parser, Map.class);
+                handler.accept(record);
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @FunctionalInterface
+    public interface RecordHandler {
+        void accept(Map<String, Object> record) throws Exception;
+    }
+
+    /**
+     * A permit of the adaptive limiter, if any, released once: a streamed request gives it back as soon as its response
+     * starts, any other request once it is done.
+     */
+    private static final class Permit {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long start = System.nanoTime();
+        private boolean released = false;
+
+        private Permit(AdaptiveConcurrencyLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        static Permit acquire(AdaptiveConcurrencyLimiter limiter) throws InterruptedException {
+            if (limiter != null) {
+                limiter.acquire();
+            }
+            return new Permit(limiter);
+        }
+
+        synchronized void release(boolean overloaded) {
+            if (limiter == null || released) {
+                return;
+            }
+            released = true;
+            limiter.release(Duration.ofNanos(System.nanoTime() - start), overloaded);
+        }
+    }
+
+    private static class TeeInputStream extends FilterInputStream {
+        private final OutputStream copy;
+
+        TeeInputStream(InputStream input, OutputStream copy) {
+            super(input);
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                copy.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                copy.write(buffer, offset, read);
+            }
+            return read;
         }
     }
 }
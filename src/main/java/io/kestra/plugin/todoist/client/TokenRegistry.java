@@ -0,0 +1,86 @@
+package io.kestra.plugin.todoist.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Worker-wide registry of objects shared by the task runs using the same API token. Entries are keyed by a SHA-256
+ * hash of the token, so no token is kept on the heap, and are evicted once unused for {@link #IDLE_TIMEOUT}.
+ */
+final class TokenRegistry<T> {
+
+    static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+
+    private final Predicate<T> idle;
+
+    private volatile long lastSweep = System.nanoTime();
+
+    /**
+     * @param idle whether a value can be evicted, e.g. has no request in flight
+     */
+    TokenRegistry(Predicate<T> idle) {
+        this.idle = idle;
+    }
+
+    /**
+     * @param key     the API token, possibly combined with other settings the value depends on
+     * @param factory creates the value when none is registered for the key
+     */
+    T get(String key, Supplier<T> factory) {
+        long now = System.nanoTime();
+        sweep(now);
+
+        return entries.compute(hash(key), (k, entry) -> {
+            Entry<T> current = entry != null ? entry : new Entry<>(factory.get());
+            current.lastUsed = now;
+            return current;
+        }).value;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void sweep(long now) {
+        if (now - lastSweep < SWEEP_INTERVAL_NANOS) {
+            return;
+        }
+        lastSweep = now;
+
+        for (String key : entries.keySet()) {
+            entries.computeIfPresent(key, (k, entry) ->
+                now - entry.lastUsed > IDLE_TIMEOUT.toNanos() && idle.test(entry.value) ? null : entry
+            );
+        }
+    }
+
+    static String hash(String apiToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+
+        private long lastUsed;
+
+        private Entry(T value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.kestra.plugin.todoist.common;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Base class of the tasks returning Todoist objects in their outputs, which are moved to internal storage when too large.
+ */
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+public abstract class AbstractTodoistReadTask extends AbstractTodoistTask {
+
+    @Schema(
+        title = "Maximum inline output size",
+        description = "Size in bytes, once serialized to JSON, above which a task's payload is written to internal storage " +
+            "and replaced in the outputs by its URI, to keep large results out of the execution"
+    )
+    @Builder.Default
+    protected Property<Long> maxInlineOutputSize = Property.ofValue(DEFAULT_MAX_INLINE_OUTPUT_SIZE);
+
+    protected static final long DEFAULT_MAX_INLINE_OUTPUT_SIZE = 256 * 1024;
+
+    /**
+     * Writes {@code payload} to internal storage when its JSON size exceeds {@link #maxInlineOutputSize}.
+     * Collections are written as one ION record per element, anything else as a single record.
+     *
+     * @return the URI of the stored payload, or empty when it is small enough to be returned inline
+     */
+    protected Optional<URI> spillIfOversized(RunContext runContext, Object payload) throws Exception {
+        long rMaxInlineOutputSize = runContext.render(maxInlineOutputSize).as(Long.class).orElse(DEFAULT_MAX_INLINE_OUTPUT_SIZE);
+
+        // measured without buffering the serialized payload
+        CountingOutputStream counter = new CountingOutputStream();
+        JacksonMapper.ofJson().writeValue(counter, payload);
+        if (counter.count <= rMaxInlineOutputSize) {
+            return Optional.empty();
+        }
+
+        Path file = runContext.workingDir().createTempFile(FileFormat.ION.extension());
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(file), FileSerde.BUFFER_SIZE)) {
+            if (payload instanceof Collection<?> collection) {
+                for (Object item : collection) {
+                    FileSerde.write(output, item);
+                }
+            } else {
+                FileSerde.write(output, payload);
+            }
+        }
+
+        runContext.metric(Counter.of("output.spilled.bytes", counter.count));
+        runContext.logger().info("Output of {} bytes exceeds the inline limit of {} bytes, stored in internal storage", counter.count, rMaxInlineOutputSize);
+
+        return Optional.of(runContext.storage().putFile(file.toFile()));
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count = 0;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package io.kestra.plugin.todoist.common;
 
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,5 +27,38 @@ public abstract class AbstractTodoistTask extends Task {
     @NotNull
     protected Property<String> apiToken;
 
-    protected static final String BASE_URL = "https://api.todoist.com/rest/v2";
+    @Schema(
+        title = "API origin",
+        description = "Scheme and host of the Todoist API. The API token is sent to it, so only change it to target " +
+            "a local stub, e.g. in load tests"
+    )
+    @Builder.Default
+    protected Property<String> apiOrigin = Property.ofValue(API_ORIGIN);
+
+    public static final String API_ORIGIN = "https://api.todoist.com";
+
+    public static final String BASE_URL = API_ORIGIN + "/rest/v2";
+
+    public static final String SYNC_BASE_URL = API_ORIGIN + "/sync/v9";
+
+    protected String restBaseUrl(RunContext runContext) throws IllegalVariableEvaluationException {
+        return restBaseUrl(runContext.render(apiOrigin).as(String.class).orElse(API_ORIGIN));
+    }
+
+    protected String syncBaseUrl(RunContext runContext) throws IllegalVariableEvaluationException {
+        return syncBaseUrl(runContext.render(apiOrigin).as(String.class).orElse(API_ORIGIN));
+    }
+
+    /**
+     * For plugins that do not extend this class, e.g. triggers, and declare their own {@code apiOrigin}.
+     *
+     * @param rApiOrigin the rendered API origin
+     */
+    public static String restBaseUrl(String rApiOrigin) {
+        return rApiOrigin.replaceAll("/+$", "") + "/rest/v2";
+    }
+
+    public static String syncBaseUrl(String rApiOrigin) {
+        return rApiOrigin.replaceAll("/+$", "") + "/sync/v9";
+    }
 }
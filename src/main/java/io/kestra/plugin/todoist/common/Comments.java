@@ -0,0 +1,99 @@
+package io.kestra.plugin.todoist.common;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.TodoistClient;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Posts comments on tasks or projects, and uploads the files attached to them from internal storage.
+ */
+public final class Comments {
+
+    private Comments() {
+    }
+
+    /**
+     * Copies {@code from} out of internal storage into the working directory, then uploads it to Todoist.
+     * Both steps stream, so the file is never held in memory; emits the {@code upload.*} metrics.
+     *
+     * @param syncClient a client on the Sync API base URL
+     * @return the upload metadata returned by Todoist ({@code file_name}, {@code file_url}, {@code file_type}, ...)
+     */
+    public static Map<String, Object> upload(RunContext runContext, TodoistClient syncClient, URI from, String fileName) throws Exception {
+        Path file = runContext.workingDir().createTempFile(extension(fileName));
+
+        try (InputStream in = runContext.storage().getFile(from)) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        long bytes = Files.size(file);
+        long start = System.nanoTime();
+
+        try {
+            Map<String, Object> upload = syncClient.upload("/uploads/add", file.toFile(), fileName);
+
+            Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            runContext.metric(Counter.of("upload.bytes", bytes));
+            runContext.metric(Timer.of("upload.duration", duration));
+            runContext.metric(Counter.of("upload.bytes.per.second", bytes * 1000.0 / Math.max(duration.toMillis(), 1)));
+
+            return upload;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Posts a comment on a task or a project, carrying the given upload as its attachment when not null.
+     *
+     * @param client a client on the REST API base URL
+     */
+    public static Map<String, Object> add(TodoistClient client, String taskId, String projectId,
+                                          String content, Map<String, Object> upload) throws Exception {
+        if ((taskId == null) == (projectId == null)) {
+            throw new IllegalArgumentException("Exactly one of taskId or projectId must be provided");
+        }
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("content", content);
+        if (taskId != null) {
+            requestBody.put("task_id", taskId);
+        } else {
+            requestBody.put("project_id", projectId);
+        }
+
+        if (upload != null) {
+            Map<String, Object> attachment = new HashMap<>();
+            attachment.put("resource_type", "file");
+            attachment.put("file_name", upload.get("file_name"));
+            attachment.put("file_url", upload.get("file_url"));
+            attachment.put("file_type", upload.get("file_type"));
+            requestBody.put("attachment", attachment);
+        }
+
+        return client.post("/comments", requestBody);
+    }
+
+    /**
+     * @return the last path segment of a storage URI, used as the file name when none is given
+     */
+    public static String fileName(URI from) {
+        String path = from.getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static String extension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 ? fileName.substring(dot) : ".tmp";
+    }
+}
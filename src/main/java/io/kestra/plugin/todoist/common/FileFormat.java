@@ -0,0 +1,17 @@
+package io.kestra.plugin.todoist.common;
+
+public enum FileFormat {
+    ION(".ion"),
+    CSV(".csv"),
+    JSONL(".jsonl");
+
+    private final String extension;
+
+    FileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,141 @@
+package io.kestra.plugin.todoist.common;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads records one by one from a file in a given {@link FileFormat}, the counterpart of {@link RecordWriter}.
+ */
+public abstract class RecordReader implements Closeable {
+
+    public static RecordReader of(FileFormat format, InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE);
+
+        return switch (format) {
+            case ION -> new MappingRecordReader(reader, JacksonMapper.ofIon().readerFor(Map.class).readValues(reader));
+            case JSONL -> new MappingRecordReader(reader, JacksonMapper.ofJson().readerFor(Map.class).readValues(reader));
+            case CSV -> new CsvRecordReader(reader);
+        };
+    }
+
+    /**
+     * @return the next record, or {@code null} once the file is exhausted
+     */
+    public abstract Map<String, Object> next() throws IOException;
+
+    private static class MappingRecordReader extends RecordReader {
+        private final BufferedReader reader;
+        private final MappingIterator<Map<String, Object>> iterator;
+
+        MappingRecordReader(BufferedReader reader, MappingIterator<Map<String, Object>> iterator) {
+            this.reader = reader;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public Map<String, Object> next() throws IOException {
+            return iterator.hasNextValue() ? iterator.nextValue() : null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+            reader.close();
+        }
+    }
+
+    private static class CsvRecordReader extends RecordReader {
+        private final BufferedReader reader;
+        private List<String> header;
+
+        CsvRecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Map<String, Object> next() throws IOException {
+            if (header == null) {
+                header = readLine();
+                if (header == null) {
+                    return null;
+                }
+            }
+
+            List<String> values;
+            do {
+                values = readLine();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.getFirst().isEmpty());
+
+            Map<String, Object> record = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = i < values.size() ? values.get(i) : null;
+                record.put(header.get(i), value == null || value.isEmpty() ? null : value);
+            }
+
+            return record;
+        }
+
+        private List<String> readLine() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            value.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        value.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    value.append((char) c);
+                }
+
+                c = reader.read();
+            }
+
+            values.add(value.toString());
+
+            return values;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.kestra.plugin.todoist.common;
+
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes records one by one to a local file in a given {@link FileFormat}, so exports never hold more than one record in memory.
+ */
+public abstract class RecordWriter implements Closeable {
+
+    private long count = 0;
+
+    public static RecordWriter of(FileFormat format, Path path, List<String> columns) throws IOException {
+        return of(format, path, columns, false);
+    }
+
+    /**
+     * @param append when set, records are added after the existing content of {@code path} and no CSV header is written
+     */
+    public static RecordWriter of(FileFormat format, Path path, List<String> columns, boolean append) throws IOException {
+        OutputStream output = new BufferedOutputStream(
+            append ? Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND) : Files.newOutputStream(path),
+            FileSerde.BUFFER_SIZE
+        );
+
+        return switch (format) {
+            case ION -> new IonRecordWriter(output);
+            case JSONL -> new JsonLinesRecordWriter(output);
+            case CSV -> new CsvRecordWriter(output, columns, !append);
+        };
+    }
+
+    public void write(Map<String, Object> record) throws IOException {
+        this.doWrite(record);
+        this.count++;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    protected abstract void doWrite(Map<String, Object> record) throws IOException;
+
+    private static class IonRecordWriter extends RecordWriter {
+        private final OutputStream output;
+
+        IonRecordWriter(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        protected void doWrite(Map<String, Object> record) throws IOException {
+            FileSerde.write(output, record);
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+
+    private static class JsonLinesRecordWriter extends RecordWriter {
+        private final BufferedWriter writer;
+
+        JsonLinesRecordWriter(OutputStream output) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        protected void doWrite(Map<String, Object> record) throws IOException {
+            writer.write(JacksonMapper.ofJson().writeValueAsString(record));
+            writer.newLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private static class CsvRecordWriter extends RecordWriter {
+        private final BufferedWriter writer;
+        private final List<String> columns;
+
+        CsvRecordWriter(OutputStream output, List<String> columns, boolean header) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            this.columns = columns;
+
+            if (header) {
+                writeLine(columns);
+            }
+        }
+
+        @Override
+        protected void doWrite(Map<String, Object> record) throws IOException {
+            writeLine(columns.stream().map(record::get).toList());
+        }
+
+        private void writeLine(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values.get(i)));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(Object value) throws IOException {
+            if (value == null) {
+                return "";
+            }
+
+            String text = value instanceof Map || value instanceof List
+                ? JacksonMapper.ofJson().writeValueAsString(value)
+                : value.toString();
+
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+
+            return text;
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
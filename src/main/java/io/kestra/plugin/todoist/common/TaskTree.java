@@ -0,0 +1,69 @@
+package io.kestra.plugin.todoist.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds the parent → subtasks hierarchy of a flat task list in a single pass, by indexing tasks on {@code parent_id}.
+ */
+public final class TaskTree {
+
+    public static final String CHILDREN = "children";
+
+    private static final Comparator<Map<String, Object>> BY_ORDER = Comparator.comparingLong(
+        task -> task.get("order") instanceof Number order ? order.longValue() : Long.MAX_VALUE
+    );
+
+    private TaskTree() {
+    }
+
+    /**
+     * @param tasks   the flat task list, as returned by the REST API
+     * @param rootIds when not empty, only the subtrees rooted at these task IDs are returned, in the given order
+     * @return copies of the root tasks, each with a {@value #CHILDREN} list of its subtasks sorted by {@code order}
+     */
+    public static List<Map<String, Object>> build(Collection<Map<String, Object>> tasks, List<String> rootIds) {
+        Map<String, Map<String, Object>> nodes = new LinkedHashMap<>();
+        for (Map<String, Object> task : tasks) {
+            Map<String, Object> node = new LinkedHashMap<>(task);
+            node.put(CHILDREN, new ArrayList<Map<String, Object>>());
+            nodes.put(String.valueOf(task.get("id")), node);
+        }
+
+        Map<String, List<Map<String, Object>>> childrenByParent = new HashMap<>();
+        List<Map<String, Object>> roots = new ArrayList<>();
+
+        for (Map<String, Object> node : nodes.values()) {
+            Object parentId = node.get("parent_id");
+            if (parentId != null && nodes.containsKey(parentId.toString())) {
+                childrenByParent.computeIfAbsent(parentId.toString(), k -> children(nodes.get(k))).add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+
+        childrenByParent.values().forEach(children -> children.sort(BY_ORDER));
+
+        if (rootIds != null && !rootIds.isEmpty()) {
+            return rootIds.stream()
+                .map(nodes::get)
+                .filter(Objects::nonNull)
+                .toList();
+        }
+
+        roots.sort(BY_ORDER);
+
+        return roots;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> children(Map<String, Object> node) {
+        return (List<Map<String, Object>>) node.get(CHILDREN);
+    }
+}
@@ -0,0 +1,139 @@
+package io.kestra.plugin.todoist.tasks.create;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.TodoistClient;
+import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import io.kestra.plugin.todoist.common.Comments;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.slf4j.Logger;
+
+import java.net.URI;
+import java.util.Map;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Add a comment to a Todoist task or project",
+    description = "Adds a comment to a task or a project, optionally with a file from Kestra internal storage " +
+        "streamed to Todoist as its attachment"
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Comment on a task",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "taskId: \"7498765432\"",
+                "content: \"Deployment finished\""
+            }
+        ),
+        @Example(
+            title = "Comment on a project with an attachment",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "projectId: \"2203306141\"",
+                "content: \"Nightly export\"",
+                "attachment: \"{{ outputs.export.uri }}\"",
+                "attachmentName: \"tasks.csv\""
+            }
+        )
+    }
+)
+public class AddComment extends AbstractTodoistTask implements RunnableTask<AddComment.Output> {
+
+    @Schema(
+        title = "Task ID",
+        description = "The ID of the task to comment on, exclusive with `projectId`"
+    )
+    private Property<String> taskId;
+
+    @Schema(
+        title = "Project ID",
+        description = "The ID of the project to comment on, exclusive with `taskId`"
+    )
+    private Property<String> projectId;
+
+    @Schema(
+        title = "Comment content",
+        description = "The text of the comment, Markdown supported"
+    )
+    @NotNull
+    private Property<String> content;
+
+    @Schema(
+        title = "Attachment",
+        description = "URI of a file in Kestra internal storage to attach to the comment"
+    )
+    private Property<String> attachment;
+
+    @Schema(
+        title = "Attachment name",
+        description = "Name of the attachment as shown in Todoist, defaults to the last segment of the attachment URI"
+    )
+    private Property<String> attachmentName;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        String rContent = runContext.render(content).as(String.class).orElseThrow();
+        String rTaskId = runContext.render(taskId).as(String.class).orElse(null);
+        String rProjectId = runContext.render(projectId).as(String.class).orElse(null);
+
+        if ((rTaskId == null) == (rProjectId == null)) {
+            throw new IllegalArgumentException("Exactly one of taskId or projectId must be provided");
+        }
+
+        Map<String, Object> upload = null;
+        String rAttachment = runContext.render(attachment).as(String.class).orElse(null);
+        if (rAttachment != null) {
+            URI from = URI.create(rAttachment);
+            String rAttachmentName = runContext.render(attachmentName).as(String.class)
+                .orElse(Comments.fileName(from));
+            upload = Comments.upload(runContext, new TodoistClient(runContext, rToken, syncBaseUrl(runContext)), from, rAttachmentName);
+        }
+
+        Map<String, Object> comment = Comments.add(new TodoistClient(runContext, rToken, restBaseUrl(runContext)), rTaskId, rProjectId, rContent, upload);
+
+        logger.info("Comment added successfully");
+
+        return Output.builder()
+            .commentId(comment.get("id").toString())
+            .content(comment.get("content").toString())
+            .fileUrl(upload != null ? (String) upload.get("file_url") : null)
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Comment ID",
+            description = "ID of the created comment"
+        )
+        private final String commentId;
+
+        @Schema(
+            title = "Comment content",
+            description = "Content of the created comment"
+        )
+        private final String content;
+
+        @Schema(
+            title = "Attachment URL",
+            description = "URL of the uploaded attachment, when `attachment` is set"
+        )
+        private final String fileUrl;
+    }
+}
@@ -5,6 +5,7 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.SyncCommandBatcher;
 import io.kestra.plugin.todoist.client.TodoistClient;
 import io.kestra.plugin.todoist.common.AbstractTodoistTask;
 import io.kestra.plugin.todoist.models.TaskOutput;
@@ -47,6 +48,8 @@ import java.util.Map;
     }
 )
 public class CreateTask extends AbstractTodoistTask implements RunnableTask<TaskOutput> {
+
+    private static final String TASK_URL = "https://app.todoist.com/app/task/";
     
     @Schema(
         title = "Task content",
@@ -79,6 +82,14 @@ public class CreateTask extends AbstractTodoistTask implements RunnableTask<Task
     )
     private Property<String> dueString;
 
+    @Schema(
+        title = "Batching",
+        description = "Hand the creation to a per-worker aggregator that sends the commands of concurrent task runs " +
+            "using the same API token as a single Sync API request, e.g. inside an `EachParallel`"
+    )
+    @Builder.Default
+    private Property<Boolean> batching = Property.ofValue(false);
+
     @Override
     public TaskOutput run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
@@ -94,7 +105,25 @@ public class CreateTask extends AbstractTodoistTask implements RunnableTask<Task
         runContext.render(projectId).as(String.class).ifPresent(p -> requestBody.put("project_id", p));
         runContext.render(dueString).as(String.class).ifPresent(d -> requestBody.put("due_string", d));
         
-        TodoistClient client = new TodoistClient(runContext, rToken, BASE_URL);
+        if (runContext.render(batching).as(Boolean.class).orElse(false)) {
+            Map<String, Object> args = new HashMap<>(requestBody);
+            Object due = args.remove("due_string");
+            if (due != null) {
+                args.put("due", Map.of("string", due));
+            }
+
+            String taskId = SyncCommandBatcher.of(rToken, syncBaseUrl(runContext)).execute("item_add", args);
+
+            logger.info("Task created successfully");
+
+            return TaskOutput.builder()
+                .taskId(taskId)
+                .content(rTaskContent)
+                .url(TASK_URL + taskId)
+                .build();
+        }
+
+        TodoistClient client = new TodoistClient(runContext, rToken, restBaseUrl(runContext));
         Map<String, Object> result = client.post("/tasks", requestBody);
         
         logger.info("Task created successfully");
@@ -0,0 +1,466 @@
+package io.kestra.plugin.todoist.tasks.create;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.AdaptiveConcurrencyLimiter;
+import io.kestra.plugin.todoist.client.TodoistClient;
+import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import io.kestra.plugin.todoist.common.FileFormat;
+import io.kestra.plugin.todoist.common.RecordReader;
+import io.kestra.plugin.todoist.common.RecordWriter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Import tasks into Todoist from a file",
+    description = "Reads an ION, CSV or JSON lines file from internal storage row by row, maps its columns to task fields, " +
+        "and creates the tasks with batched Sync API `item_add` commands. Parent/child links are expressed with temporary IDs. " +
+        "The number of batches in flight is bounded, so reading the file is throttled by the API. " +
+        "The outcome of every row is written to a results file, which can be passed back as `resumeFrom` to resume a failed import."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Import a CSV export from another tool",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "from: \"{{ outputs.download.uri }}\"",
+                "format: CSV",
+                "projectId: \"2203306141\"",
+                "mapping:",
+                "  content: Summary",
+                "  description: Description",
+                "  due_string: Due",
+                "tempIdColumn: Key",
+                "parentColumn: ParentKey"
+            }
+        ),
+        @Example(
+            title = "Resume an import from the results of a failed run",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "from: \"{{ outputs.download.uri }}\"",
+                "resumeFrom: \"{{ inputs.previous_results }}\""
+            }
+        )
+    }
+)
+public class ImportTasks extends AbstractTodoistTask implements RunnableTask<ImportTasks.Output> {
+
+    private static final List<String> FIELDS = List.of(
+        "content", "description", "project_id", "section_id", "priority", "due_string", "due_date", "labels", "assignee_id"
+    );
+
+    private static final String STATUS_OK = "OK";
+    private static final String STATUS_ERROR = "ERROR";
+
+    @Schema(
+        title = "Source file",
+        description = "URI of the file to import from internal storage"
+    )
+    @NotNull
+    private Property<String> from;
+
+    @Schema(
+        title = "Source format",
+        description = "Format of the source file"
+    )
+    @Builder.Default
+    private Property<FileFormat> format = Property.ofValue(FileFormat.ION);
+
+    @Schema(
+        title = "Column mapping",
+        description = "Maps Todoist task fields (`content`, `description`, `project_id`, `section_id`, `priority`, `due_string`, " +
+            "`due_date`, `labels`, `assignee_id`) to source column names. Unmapped fields are read from the column of the same name."
+    )
+    private Property<Map<String, String>> mapping;
+
+    @Schema(
+        title = "Project ID",
+        description = "Project for rows that do not specify one"
+    )
+    private Property<String> projectId;
+
+    @Schema(
+        title = "Temporary ID column",
+        description = "Column holding a row identifier that other rows can reference as their parent"
+    )
+    @Builder.Default
+    private Property<String> tempIdColumn = Property.ofValue("temp_id");
+
+    @Schema(
+        title = "Parent column",
+        description = "Column holding the parent of the row, either the temporary ID of another row or an existing Todoist task ID"
+    )
+    @Builder.Default
+    private Property<String> parentColumn = Property.ofValue("parent_id");
+
+    @Schema(
+        title = "Batch size",
+        description = "Number of rows sent in a single Sync API request"
+    )
+    @Builder.Default
+    @Min(1)
+    @Max(100)
+    private Property<Integer> batchSize = Property.ofValue(100);
+
+    @Schema(
+        title = "Concurrency",
+        description = "Maximum number of batches in flight at the same time; fewer are sent concurrently when the adaptive limiter shared by the API token backs off"
+    )
+    @Builder.Default
+    @Min(1)
+    private Property<Integer> concurrency = Property.ofValue(2);
+
+    @Schema(
+        title = "Resume from",
+        description = "URI of the results file of a previous run; rows already imported successfully are skipped"
+    )
+    private Property<String> resumeFrom;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        URI rFrom = URI.create(runContext.render(from).as(String.class).orElseThrow());
+        FileFormat rFormat = runContext.render(format).as(FileFormat.class).orElseThrow();
+        Map<String, String> rMapping = runContext.render(mapping).asMap(String.class, String.class);
+        String rProjectId = runContext.render(projectId).as(String.class).orElse(null);
+        String rTempIdColumn = runContext.render(tempIdColumn).as(String.class).orElseThrow();
+        String rParentColumn = runContext.render(parentColumn).as(String.class).orElseThrow();
+        int rBatchSize = runContext.render(batchSize).as(Integer.class).orElseThrow();
+        int rConcurrency = runContext.render(concurrency).as(Integer.class).orElseThrow();
+        String rResumeFrom = runContext.render(resumeFrom).as(String.class).orElse(null);
+
+        Path resultsFile = runContext.workingDir().createTempFile(FileFormat.ION.extension());
+        // only concurrent batches go through the limiter shared by the API token
+        AdaptiveConcurrencyLimiter limiter = rConcurrency > 1 ? AdaptiveConcurrencyLimiter.forToken(rToken) : null;
+        TodoistClient client = new TodoistClient(runContext, rToken, syncBaseUrl(runContext), limiter);
+
+        Set<Long> imported = new HashSet<>();
+        Output.OutputBuilder output = Output.builder();
+
+        try (RecordWriter results = RecordWriter.of(FileFormat.ION, resultsFile, null);
+             Importer importer = new Importer(client, results, rConcurrency)) {
+            if (rResumeFrom != null) {
+                try (InputStream input = runContext.storage().getFile(URI.create(rResumeFrom));
+                     RecordReader previous = RecordReader.of(FileFormat.ION, input)) {
+                    Map<String, Object> result;
+                    while ((result = previous.next()) != null) {
+                        if (STATUS_OK.equals(result.get("status"))) {
+                            imported.add(((Number) result.get("row")).longValue());
+                            if (result.get("tempId") != null) {
+                                importer.resolved.put(result.get("tempId").toString(), result.get("taskId").toString());
+                            }
+                            importer.write(result);
+                        }
+                    }
+                }
+                logger.info("Resuming import, {} rows already imported", imported.size());
+            }
+
+            try (InputStream input = runContext.storage().getFile(rFrom);
+                 RecordReader reader = RecordReader.of(rFormat, input)) {
+                Batch batch = new Batch();
+                long row = 0;
+                Map<String, Object> record;
+
+                while ((record = reader.next()) != null) {
+                    row++;
+                    if (imported.contains(row)) {
+                        continue;
+                    }
+
+                    String tempId = record.get(rTempIdColumn) != null ? record.get(rTempIdColumn).toString() : null;
+
+                    Map<String, Object> args = new HashMap<>();
+                    try {
+                        for (String field : FIELDS) {
+                            Object value = record.get(rMapping.getOrDefault(field, field));
+                            if (value != null) {
+                                args.put(field, convert(field, value));
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        // a malformed row is reported in the results, the other rows are still imported
+                        importer.reject(row, tempId, "Invalid row: " + e.getMessage());
+                        continue;
+                    }
+                    if (rProjectId != null) {
+                        args.putIfAbsent("project_id", rProjectId);
+                    }
+
+                    Object parent = record.get(rParentColumn);
+                    if (parent != null) {
+                        args.put("parent_id", batch.tempIds.contains(parent.toString()) ? parent.toString() : importer.resolve(parent.toString()));
+                    }
+
+                    batch.add(row, tempId, args);
+                    if (batch.size() >= rBatchSize) {
+                        importer.submit(batch);
+                        batch = new Batch();
+                    }
+                }
+
+                if (batch.size() > 0) {
+                    importer.submit(batch);
+                }
+            }
+
+            importer.drain();
+
+            runContext.metric(Counter.of("rows", importer.succeeded.get(), "status", STATUS_OK));
+            runContext.metric(Counter.of("rows", importer.failed.get(), "status", STATUS_ERROR));
+            runContext.metric(Counter.of("batches", importer.batches.get()));
+            if (limiter != null) {
+                runContext.metric(Counter.of("concurrency.limit", limiter.getLimit()));
+            }
+            logger.info("Imported {} tasks, {} failed, {} skipped", importer.succeeded.get(), importer.failed.get(), imported.size());
+
+            output.succeeded(importer.succeeded.get())
+                .failed(importer.failed.get())
+                .skipped((long) imported.size());
+        } catch (Exception e) {
+            // the resources are closed at this point, so the results file holds every batch sent before the failure
+            URI partial = runContext.storage().putFile(resultsFile.toFile());
+            logger.error("Import aborted, the results of the rows processed so far are stored at {}, use it as `resumeFrom` to resume", partial);
+            throw e;
+        }
+
+        return output
+            .uri(runContext.storage().putFile(resultsFile.toFile()))
+            .build();
+    }
+
+    private static Object convert(String field, Object value) {
+        return switch (field) {
+            case "priority" -> value instanceof Number ? value : Integer.valueOf(value.toString().trim());
+            case "labels" -> value instanceof List ? value : Arrays.stream(value.toString().split(",")).map(String::trim).filter(l -> !l.isEmpty()).toList();
+            default -> value;
+        };
+    }
+
+    private static class Batch {
+        private final List<Long> rows = new ArrayList<>();
+        private final List<String> tempIds = new ArrayList<>();
+        private final List<Map<String, Object>> commands = new ArrayList<>();
+
+        void add(long row, String tempId, Map<String, Object> args) {
+            String commandTempId = tempId != null ? tempId : UUID.randomUUID().toString();
+
+            Map<String, Object> command = new LinkedHashMap<>();
+            command.put("type", "item_add");
+            command.put("uuid", UUID.randomUUID().toString());
+            command.put("temp_id", commandTempId);
+            command.put("args", args);
+
+            rows.add(row);
+            tempIds.add(commandTempId);
+            commands.add(command);
+        }
+
+        int size() {
+            return commands.size();
+        }
+    }
+
+    /**
+     * Sends batches on virtual threads, with at most {@code concurrency} of them in flight; {@link #submit(Batch)} blocks
+     * when the limit is reached, which keeps the reader from running ahead of the API.
+     */
+    private static class Importer implements AutoCloseable {
+        private final TodoistClient client;
+        private final RecordWriter results;
+        private final int concurrency;
+        private final Semaphore inFlight;
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        private final Set<String> pending = ConcurrentHashMap.newKeySet();
+        private final Map<String, String> resolved = new ConcurrentHashMap<>();
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private final List<Future<?>> sent = new ArrayList<>();
+
+        Importer(TodoistClient client, RecordWriter results, int concurrency) {
+            this.client = client;
+            this.results = results;
+            this.concurrency = concurrency;
+            this.inFlight = new Semaphore(concurrency);
+        }
+
+        /**
+         * Resolves a parent reference to a real task ID, waiting for the batch creating it if it is still in flight.
+         * References that are not temporary IDs of this import are returned as is, as existing task IDs.
+         */
+        String resolve(String reference) throws InterruptedException {
+            if (pending.contains(reference)) {
+                drain();
+            }
+
+            return resolved.getOrDefault(reference, reference);
+        }
+
+        void submit(Batch batch) throws InterruptedException {
+            inFlight.acquire();
+            pending.addAll(batch.tempIds);
+            batches.incrementAndGet();
+
+            sent.add(executor.submit(() -> {
+                try {
+                    send(batch);
+                } finally {
+                    batch.tempIds.forEach(pending::remove);
+                    inFlight.release();
+                }
+            }));
+        }
+
+        /**
+         * Waits for the batches in flight, then rethrows the first failure to record the results of a batch.
+         */
+        void drain() throws InterruptedException {
+            inFlight.acquire(concurrency);
+            inFlight.release(concurrency);
+
+            for (Future<?> batch : sent) {
+                try {
+                    batch.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+                }
+            }
+            sent.clear();
+        }
+
+        void reject(long row, String tempId, String error) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("row", row);
+            result.put("tempId", tempId);
+            result.put("status", STATUS_ERROR);
+            result.put("error", error);
+            failed.incrementAndGet();
+
+            write(result);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void send(Batch batch) {
+            Map<String, Object> syncStatus;
+            Map<String, Object> tempIdMapping;
+            String requestError = null;
+
+            try {
+                Map<String, Object> response = client.post("/sync", Map.of("commands", batch.commands));
+                syncStatus = (Map<String, Object>) response.getOrDefault("sync_status", Map.of());
+                tempIdMapping = (Map<String, Object>) response.getOrDefault("temp_id_mapping", Map.of());
+            } catch (Exception e) {
+                // including an unexpected response shape: the rows of this batch are reported as failed
+                syncStatus = Map.of();
+                tempIdMapping = Map.of();
+                requestError = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                String tempId = batch.tempIds.get(i);
+                Object status = syncStatus.get(batch.commands.get(i).get("uuid").toString());
+
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("row", batch.rows.get(i));
+                result.put("tempId", tempId);
+
+                if ("ok".equals(status) && tempIdMapping.get(tempId) != null) {
+                    String taskId = tempIdMapping.get(tempId).toString();
+                    resolved.put(tempId, taskId);
+                    result.put("status", STATUS_OK);
+                    result.put("taskId", taskId);
+                    succeeded.incrementAndGet();
+                } else {
+                    result.put("status", STATUS_ERROR);
+                    result.put("error", requestError != null ? requestError : String.valueOf(status));
+                    failed.incrementAndGet();
+                }
+
+                write(result);
+            }
+        }
+
+        synchronized void write(Map<String, Object> result) {
+            try {
+                results.write(result);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            drain();
+            executor.shutdown();
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Results file",
+            description = "URI of an ION file with one result per row: `row`, `tempId`, `status` (`OK` or `ERROR`), `taskId` and `error`"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Succeeded",
+            description = "Number of tasks created by this run"
+        )
+        private final Long succeeded;
+
+        @Schema(
+            title = "Failed",
+            description = "Number of rows that could not be imported"
+        )
+        private final Long failed;
+
+        @Schema(
+            title = "Skipped",
+            description = "Number of rows skipped because a previous run already imported them"
+        )
+        private final Long skipped;
+    }
+}
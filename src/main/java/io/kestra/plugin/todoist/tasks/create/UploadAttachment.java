@@ -0,0 +1,154 @@
+package io.kestra.plugin.todoist.tasks.create;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.TodoistClient;
+import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import io.kestra.plugin.todoist.common.Comments;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.slf4j.Logger;
+
+import java.net.URI;
+import java.util.Map;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Upload a file to Todoist",
+    description = "Uploads a file from Kestra internal storage to Todoist and optionally attaches it to a new comment " +
+        "on a task or project. The file is streamed from disk as a multipart body and never loaded in memory."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Upload a report and attach it to a task",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "from: \"{{ outputs.report.uri }}\"",
+                "fileName: \"report.pdf\"",
+                "taskId: \"7498765432\"",
+                "content: \"Weekly report\""
+            }
+        ),
+        @Example(
+            title = "Upload a file without linking it",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "from: \"{{ outputs.download.uri }}\""
+            }
+        )
+    }
+)
+public class UploadAttachment extends AbstractTodoistTask implements RunnableTask<UploadAttachment.Output> {
+
+    @Schema(
+        title = "Source file",
+        description = "URI of the file in Kestra internal storage to upload"
+    )
+    @NotNull
+    private Property<String> from;
+
+    @Schema(
+        title = "File name",
+        description = "Name of the file as shown in Todoist, defaults to the last segment of the source URI"
+    )
+    private Property<String> fileName;
+
+    @Schema(
+        title = "Task ID",
+        description = "The ID of the task to attach the file to, through a new comment"
+    )
+    private Property<String> taskId;
+
+    @Schema(
+        title = "Project ID",
+        description = "The ID of the project to attach the file to, through a new comment"
+    )
+    private Property<String> projectId;
+
+    @Schema(
+        title = "Comment content",
+        description = "Text of the comment holding the attachment, defaults to the file name"
+    )
+    private Property<String> content;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        URI rFrom = URI.create(runContext.render(from).as(String.class).orElseThrow());
+        String rFileName = runContext.render(fileName).as(String.class).orElse(Comments.fileName(rFrom));
+        String rTaskId = runContext.render(taskId).as(String.class).orElse(null);
+        String rProjectId = runContext.render(projectId).as(String.class).orElse(null);
+
+        if (rTaskId != null && rProjectId != null) {
+            throw new IllegalArgumentException("Only one of taskId or projectId can be provided");
+        }
+
+        Map<String, Object> upload = Comments.upload(runContext, new TodoistClient(runContext, rToken, syncBaseUrl(runContext)), rFrom, rFileName);
+
+        Output.OutputBuilder output = Output.builder()
+            .fileName((String) upload.get("file_name"))
+            .fileUrl((String) upload.get("file_url"))
+            .fileType((String) upload.get("file_type"))
+            .fileSize(upload.get("file_size") instanceof Number size ? size.longValue() : null);
+
+        if (rTaskId == null && rProjectId == null) {
+            logger.info("File {} uploaded successfully", rFileName);
+            return output.build();
+        }
+
+        String rContent = runContext.render(content).as(String.class).orElse(rFileName);
+        Map<String, Object> comment = Comments.add(new TodoistClient(runContext, rToken, restBaseUrl(runContext)), rTaskId, rProjectId, rContent, upload);
+
+        logger.info("File {} uploaded and attached successfully", rFileName);
+
+        return output
+            .commentId(comment.get("id").toString())
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "File name",
+            description = "Name of the uploaded file"
+        )
+        private final String fileName;
+
+        @Schema(
+            title = "File URL",
+            description = "URL of the uploaded file on Todoist"
+        )
+        private final String fileUrl;
+
+        @Schema(
+            title = "File type",
+            description = "MIME type detected by Todoist"
+        )
+        private final String fileType;
+
+        @Schema(
+            title = "File size",
+            description = "Size of the uploaded file in bytes"
+        )
+        private final Long fileSize;
+
+        @Schema(
+            title = "Comment ID",
+            description = "ID of the comment holding the attachment, when `taskId` or `projectId` is set"
+        )
+        private final String commentId;
+    }
+}
@@ -50,7 +50,7 @@ public class DeleteTask extends AbstractTodoistTask implements RunnableTask<Void
         String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
         String rTaskId = runContext.render(taskId).as(String.class).orElseThrow();
         
-        TodoistClient client = new TodoistClient(runContext, rToken, BASE_URL);
+        TodoistClient client = new TodoistClient(runContext, rToken, restBaseUrl(runContext));
         client.delete("/tasks/" + rTaskId);
         
         logger.info("Task {} deleted successfully", rTaskId);
@@ -0,0 +1,215 @@
+package io.kestra.plugin.todoist.tasks.read;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.plugin.todoist.client.TodoistClient;
+import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import io.kestra.plugin.todoist.common.FileFormat;
+import io.kestra.plugin.todoist.common.RecordWriter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.slf4j.Logger;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Incrementally archive completed tasks from Todoist",
+    description = "Pages through completed tasks since a watermark stored in the namespace KV store, writes only the new completions " +
+        "to a file in internal storage, and advances the watermark once the file is stored. " +
+        "Each run therefore only fetches the activity since the previous run."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Archive new completions every day",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "watermarkKey: todoist-completed-watermark"
+            }
+        ),
+        @Example(
+            title = "Append new completions to the previous archive file",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "appendTo: \"{{ inputs.previous_archive }}\"",
+                "initialSince: \"2025-01-01T00:00:00Z\""
+            }
+        )
+    }
+)
+public class ArchiveCompletedTasks extends AbstractTodoistTask implements RunnableTask<ArchiveCompletedTasks.Output> {
+
+    private static final int COMPLETED_PAGE_SIZE = 200;
+
+    // the Sync API only accepts minute precision for since/until
+    private static final DateTimeFormatter SYNC_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm").withZone(ZoneOffset.UTC);
+
+    @Schema(
+        title = "Watermark key",
+        description = "Key of the namespace KV entry holding the completion time of the last archived task. " +
+            "Defaults to a key of the flow and `projectId`, e.g. `todoist-completed-watermark_archive_2203306141`, so that " +
+            "archive flows of the same namespace do not share a watermark; set it to share one on purpose"
+    )
+    private Property<String> watermarkKey;
+
+    @Schema(
+        title = "Initial watermark",
+        description = "ISO-8601 instant used when no watermark is stored yet; when absent the whole completed history is archived on the first run"
+    )
+    private Property<String> initialSince;
+
+    @Schema(
+        title = "Project ID",
+        description = "Only archive tasks completed in this project"
+    )
+    private Property<String> projectId;
+
+    @Schema(
+        title = "Append to",
+        description = "URI of a previous archive file in internal storage; new completions are appended after its content"
+    )
+    private Property<String> appendTo;
+
+    @Schema(
+        title = "Output format",
+        description = "Format of the archive file"
+    )
+    @Builder.Default
+    private Property<FileFormat> format = Property.ofValue(FileFormat.ION);
+
+    @Schema(
+        title = "CSV columns",
+        description = "Fields written as CSV columns, in order. Ignored for other formats."
+    )
+    @Builder.Default
+    private Property<List<String>> columns = Property.ofValue(List.of(
+        "id", "task_id", "content", "project_id", "section_id", "user_id", "completed_at", "note_count"
+    ));
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        String rProjectId = runContext.render(projectId).as(String.class).orElse(null);
+        String rWatermarkKey = runContext.render(watermarkKey).as(String.class).orElse(
+            "todoist-completed-watermark_" + runContext.flowInfo().id() + (rProjectId != null ? "_" + rProjectId : "")
+        );
+        String rAppendTo = runContext.render(appendTo).as(String.class).orElse(null);
+        FileFormat rFormat = runContext.render(format).as(FileFormat.class).orElseThrow();
+        List<String> rColumns = runContext.render(columns).asList(String.class);
+
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        Optional<KVValue> stored = kvStore.getValue(rWatermarkKey);
+        String rSince = stored.isPresent()
+            ? stored.get().value().toString()
+            : runContext.render(initialSince).as(String.class).orElse(null);
+        Instant watermark = rSince != null ? Instant.parse(rSince) : null;
+
+        // pin the upper bound so completions arriving while paging do not shift the offsets
+        Instant until = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+
+        StringBuilder endpoint = new StringBuilder("/completed/get_all?until=").append(SYNC_DATE_FORMAT.format(until));
+        if (watermark != null) {
+            endpoint.append("&since=").append(SYNC_DATE_FORMAT.format(watermark));
+        }
+        if (rProjectId != null) {
+            endpoint.append("&project_id=").append(rProjectId);
+        }
+
+        Path archive = runContext.workingDir().createTempFile(rFormat.extension());
+        if (rAppendTo != null) {
+            try (InputStream previous = runContext.storage().getFile(URI.create(rAppendTo))) {
+                Files.copy(previous, archive, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        AtomicReference<Instant> newWatermark = new AtomicReference<>(watermark);
+        TodoistClient client = new TodoistClient(runContext, rToken, syncBaseUrl(runContext));
+
+        long fetched;
+        long archived;
+        try (RecordWriter writer = RecordWriter.of(rFormat, archive, rColumns, rAppendTo != null)) {
+            fetched = client.streamPages(endpoint.toString(), "items", COMPLETED_PAGE_SIZE, item -> {
+                Instant completedAt = Instant.parse(item.get("completed_at").toString());
+
+                // since is truncated to the minute, so the first page can overlap the previous run
+                if (watermark != null && !completedAt.isAfter(watermark)) {
+                    return;
+                }
+
+                writer.write(item);
+                newWatermark.accumulateAndGet(completedAt, (a, b) -> a == null || b.isAfter(a) ? b : a);
+            });
+            archived = writer.count();
+        }
+
+        URI uri = runContext.storage().putFile(archive.toFile());
+
+        // only advance once the archive is safely stored, so a failed run is retried from the same point
+        if (newWatermark.get() != null && !newWatermark.get().equals(watermark)) {
+            kvStore.put(rWatermarkKey, new KVValueAndMetadata(
+                new KVMetadata("Todoist completed tasks archive watermark", (Duration) null),
+                newWatermark.get().toString()
+            ));
+        }
+
+        runContext.metric(Counter.of("records", archived, "type", "completed"));
+        runContext.metric(Counter.of("skipped", fetched - archived));
+        logger.info("Archived {} new completed tasks, watermark is now {}", archived, newWatermark.get());
+
+        return Output.builder()
+            .uri(uri)
+            .count(archived)
+            .watermark(newWatermark.get() != null ? newWatermark.get().toString() : null)
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Archive file",
+            description = "URI of the archive file, containing the previous archive (if any) followed by the new completions"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Count",
+            description = "Number of new completed tasks archived by this run"
+        )
+        private final Long count;
+
+        @Schema(
+            title = "Watermark",
+            description = "Completion time of the most recent archived task"
+        )
+        private final String watermark;
+    }
+}
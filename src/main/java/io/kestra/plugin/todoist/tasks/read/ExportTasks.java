@@ -0,0 +1,284 @@
+package io.kestra.plugin.todoist.tasks.read;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.AdaptiveConcurrencyLimiter;
+import io.kestra.plugin.todoist.client.TodoistClient;
+import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import io.kestra.plugin.todoist.common.FileFormat;
+import io.kestra.plugin.todoist.common.RecordWriter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Export tasks from Todoist to a file",
+    description = "Streams tasks from Todoist straight into a file in Kestra internal storage, one record at a time, " +
+        "so memory usage stays bounded whatever the size of the account. Completed tasks and comments can be exported alongside active tasks."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Export all active tasks as ION",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\""
+            }
+        ),
+        @Example(
+            title = "Export a project's tasks, completed tasks and comments as CSV",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "projectId: \"2203306141\"",
+                "format: CSV",
+                "includeCompleted: true",
+                "includeComments: true"
+            }
+        )
+    }
+)
+public class ExportTasks extends AbstractTodoistTask implements RunnableTask<ExportTasks.Output> {
+
+    private static final int COMPLETED_PAGE_SIZE = 200;
+
+    private static final int MAX_COMMENT_FETCHES = 8;
+
+    @Schema(
+        title = "Project ID",
+        description = "Only export tasks from this project"
+    )
+    private Property<String> projectId;
+
+    @Schema(
+        title = "Filter",
+        description = "A Todoist filter query (e.g., 'today | overdue'); only applies to active tasks"
+    )
+    private Property<String> filter;
+
+    @Schema(
+        title = "Output format",
+        description = "Format of the exported files"
+    )
+    @Builder.Default
+    private Property<FileFormat> format = Property.ofValue(FileFormat.ION);
+
+    @Schema(
+        title = "CSV columns",
+        description = "Task fields written as CSV columns, in order; nested values are written as JSON. Ignored for other formats."
+    )
+    @Builder.Default
+    private Property<List<String>> columns = Property.ofValue(List.of(
+        "id", "content", "description", "project_id", "section_id", "parent_id", "order",
+        "priority", "labels", "due", "comment_count", "is_completed", "created_at", "completed_at", "task_id", "url"
+    ));
+
+    @Schema(
+        title = "Comment CSV columns",
+        description = "Comment fields written as CSV columns of the comments file, in order; nested values are written as JSON. " +
+            "Ignored for other formats."
+    )
+    @Builder.Default
+    private Property<List<String>> commentColumns = Property.ofValue(List.of(
+        "id", "task_id", "project_id", "posted_at", "content", "attachment"
+    ));
+
+    @Schema(
+        title = "Include completed tasks",
+        description = "Also export completed tasks to a separate file"
+    )
+    @Builder.Default
+    private Property<Boolean> includeCompleted = Property.ofValue(false);
+
+    @Schema(
+        title = "Include comments",
+        description = "Also export the comments of every exported active task to a separate file"
+    )
+    @Builder.Default
+    private Property<Boolean> includeComments = Property.ofValue(false);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        String rProjectId = runContext.render(projectId).as(String.class).orElse(null);
+        String rFilter = runContext.render(filter).as(String.class).orElse(null);
+        FileFormat rFormat = runContext.render(format).as(FileFormat.class).orElseThrow();
+        List<String> rColumns = runContext.render(columns).asList(String.class);
+        boolean rIncludeCompleted = runContext.render(includeCompleted).as(Boolean.class).orElse(false);
+        boolean rIncludeComments = runContext.render(includeComments).as(Boolean.class).orElse(false);
+        List<String> rCommentColumns = rIncludeComments ? runContext.render(commentColumns).asList(String.class) : null;
+
+        // only an export overlapping several requests goes through the limiter shared by the API token
+        AdaptiveConcurrencyLimiter limiter = rIncludeCompleted || rIncludeComments ? AdaptiveConcurrencyLimiter.forToken(rToken) : null;
+        TodoistClient client = new TodoistClient(runContext, rToken, restBaseUrl(runContext), limiter);
+        long start = System.nanoTime();
+        long bytes = 0;
+
+        StringBuilder urlBuilder = new StringBuilder("/tasks");
+        if (rFilter != null) {
+            urlBuilder.append("?filter=").append(URLEncoder.encode(rFilter, StandardCharsets.UTF_8));
+        } else if (rProjectId != null) {
+            urlBuilder.append("?project_id=").append(rProjectId);
+        }
+
+        Path completedFile = rIncludeCompleted ? runContext.workingDir().createTempFile(rFormat.extension()) : null;
+        Output.OutputBuilder output = Output.builder();
+        long taskCount;
+        long completedCount = 0;
+
+        try (RecordWriter completedWriter = completedFile != null ? RecordWriter.of(rFormat, completedFile, rColumns) : null) {
+            // completed tasks are exported alongside the active ones, from their own virtual thread
+            CompletableFuture<Long> completed = null;
+            if (completedWriter != null) {
+                TodoistClient syncClient = new TodoistClient(runContext, rToken, syncBaseUrl(runContext), limiter);
+                String completedEndpoint = "/completed/get_all" + (rProjectId != null ? "?project_id=" + rProjectId : "");
+                completed = syncClient.streamPagesAsync(completedEndpoint, "items", COMPLETED_PAGE_SIZE, completedWriter::write);
+            }
+
+            try {
+                Path tasksFile = runContext.workingDir().createTempFile(rFormat.extension());
+                Path commentsFile = rIncludeComments ? runContext.workingDir().createTempFile(rFormat.extension()) : null;
+
+                try (RecordWriter writer = RecordWriter.of(rFormat, tasksFile, rColumns);
+                     RecordWriter commentsWriter = commentsFile != null ? RecordWriter.of(rFormat, commentsFile, rCommentColumns) : null) {
+                    // comments are requested as soon as a commented task is streamed, with a bounded number of
+                    // fetches outstanding; the oldest is written out before a new one starts, which keeps task order
+                    Deque<CompletableFuture<List<Map<String, Object>>>> comments = new ArrayDeque<>();
+
+                    try {
+                        taskCount = client.stream(urlBuilder.toString(), null, task -> {
+                            writer.write(task);
+                            if (commentsWriter != null && task.get("comment_count") instanceof Number n && n.intValue() > 0) {
+                                if (comments.size() >= MAX_COMMENT_FETCHES) {
+                                    writeAll(commentsWriter, TodoistClient.await(comments.poll()));
+                                }
+                                comments.add(client.getListAsync("/comments?task_id=" + task.get("id")));
+                            }
+                        });
+
+                        while (!comments.isEmpty()) {
+                            writeAll(commentsWriter, TodoistClient.await(comments.poll()));
+                        }
+                    } finally {
+                        // empty once every fetch is written; otherwise the export failed and the fetches left are stopped
+                        comments.forEach(fetch -> fetch.cancel(true));
+                    }
+
+                    if (commentsWriter != null) {
+                        output.commentCount(commentsWriter.count());
+                        runContext.metric(Counter.of("records", commentsWriter.count(), "type", "comments"));
+                        logger.info("Exported {} comments", commentsWriter.count());
+                    }
+                }
+                bytes += Files.size(tasksFile);
+                runContext.metric(Counter.of("records", taskCount, "type", "tasks"));
+                logger.info("Exported {} tasks", taskCount);
+
+                output.uri(runContext.storage().putFile(tasksFile.toFile()))
+                    .taskCount(taskCount);
+
+                if (commentsFile != null) {
+                    output.commentsUri(runContext.storage().putFile(commentsFile.toFile()));
+                    bytes += Files.size(commentsFile);
+                }
+
+                if (completed != null) {
+                    completedCount = TodoistClient.await(completed);
+                }
+            } finally {
+                // stops the completed tasks export when the active one failed; no-op once it is done
+                if (completed != null) {
+                    completed.cancel(true);
+                }
+            }
+        }
+
+        if (completedFile != null) {
+            output.completedUri(runContext.storage().putFile(completedFile.toFile()))
+                .completedCount(completedCount);
+            runContext.metric(Counter.of("records", completedCount, "type", "completed"));
+            logger.info("Exported {} completed tasks", completedCount);
+            bytes += Files.size(completedFile);
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        runContext.metric(Counter.of("bytes", bytes));
+        if (limiter != null) {
+            runContext.metric(Counter.of("concurrency.limit", limiter.getLimit()));
+        }
+        runContext.metric(Timer.of("duration", duration));
+        runContext.metric(Counter.of("records.per.second", taskCount * 1000.0 / Math.max(duration.toMillis(), 1)));
+
+        return output.build();
+    }
+
+    private static void writeAll(RecordWriter writer, List<Map<String, Object>> records) throws IOException {
+        for (Map<String, Object> record : records) {
+            writer.write(record);
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Tasks file",
+            description = "URI of the file containing the exported active tasks"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Task count",
+            description = "Number of active tasks exported"
+        )
+        private final Long taskCount;
+
+        @Schema(
+            title = "Completed tasks file",
+            description = "URI of the file containing the exported completed tasks, when `includeCompleted` is set"
+        )
+        private final URI completedUri;
+
+        @Schema(
+            title = "Completed task count",
+            description = "Number of completed tasks exported"
+        )
+        private final Long completedCount;
+
+        @Schema(
+            title = "Comments file",
+            description = "URI of the file containing the exported comments, when `includeComments` is set"
+        )
+        private final URI commentsUri;
+
+        @Schema(
+            title = "Comment count",
+            description = "Number of comments exported"
+        )
+        private final Long commentCount;
+    }
+}
@@ -6,14 +6,16 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.todoist.client.TodoistClient;
-import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import io.kestra.plugin.todoist.common.AbstractTodoistReadTask;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.slf4j.Logger;
 
+import java.net.URI;
 import java.util.Map;
+import java.util.Optional;
 
 @SuperBuilder
 @ToString
@@ -35,7 +37,7 @@ import java.util.Map;
         )
     }
 )
-public class GetTask extends AbstractTodoistTask implements RunnableTask<GetTask.Output> {
+public class GetTask extends AbstractTodoistReadTask implements RunnableTask<GetTask.Output> {
     
     @Schema(
         title = "Task ID",
@@ -51,13 +53,16 @@ public class GetTask extends AbstractTodoistTask implements RunnableTask<GetTask
         String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
         String rTaskId = runContext.render(taskId).as(String.class).orElseThrow();
         
-        TodoistClient client = new TodoistClient(runContext, rToken, BASE_URL);
+        TodoistClient client = new TodoistClient(runContext, rToken, restBaseUrl(runContext));
         Map<String, Object> task = client.get("/tasks/" + rTaskId);
         
         logger.info("Task {} retrieved successfully", rTaskId);
-        
+
+        Optional<URI> uri = spillIfOversized(runContext, task);
+
         return Output.builder()
-            .task(task)
+            .task(uri.isPresent() ? null : task)
+            .uri(uri.orElse(null))
             .build();
     }
 
@@ -66,8 +71,14 @@ public class GetTask extends AbstractTodoistTask implements RunnableTask<GetTask
     public static class Output implements io.kestra.core.models.tasks.Output {
         @Schema(
             title = "Task",
-            description = "The complete task object from Todoist"
+            description = "The complete task object from Todoist, unless it exceeds `maxInlineOutputSize`"
         )
         private final Map<String, Object> task;
+
+        @Schema(
+            title = "Task file",
+            description = "URI of the task object in internal storage, when it exceeds `maxInlineOutputSize`"
+        )
+        private final URI uri;
     }
 }
@@ -2,18 +2,28 @@ package io.kestra.plugin.todoist.tasks.read;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.AdaptiveConcurrencyLimiter;
 import io.kestra.plugin.todoist.client.TodoistClient;
-import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import io.kestra.plugin.todoist.common.AbstractTodoistReadTask;
+import io.kestra.plugin.todoist.common.TaskTree;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.slf4j.Logger;
 
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @SuperBuilder
 @ToString
@@ -38,10 +48,20 @@ import java.util.Map;
                 "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
                 "projectId: \"2203306141\""
             }
+        ),
+        @Example(
+            title = "List the subtask tree of a task",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "projectId: \"2203306141\"",
+                "outputMode: TREE",
+                "rootIds:",
+                "  - \"7498765432\""
+            }
         )
     }
 )
-public class ListTasks extends AbstractTodoistTask implements RunnableTask<ListTasks.Output> {
+public class ListTasks extends AbstractTodoistReadTask implements RunnableTask<ListTasks.Output> {
     
     @Schema(
         title = "Project ID",
@@ -49,39 +69,117 @@ public class ListTasks extends AbstractTodoistTask implements RunnableTask<ListT
     )
     private Property<String> projectId;
 
+    @Schema(
+        title = "Output mode",
+        description = "`FLAT` returns tasks as a list; `TREE` returns top-level tasks, each with its subtasks nested in a `children` list sorted by `order`"
+    )
+    @Builder.Default
+    private Property<OutputMode> outputMode = Property.ofValue(OutputMode.FLAT);
+
+    @Schema(
+        title = "Root task IDs",
+        description = "In `TREE` mode, only return the subtrees rooted at these task IDs"
+    )
+    private Property<List<String>> rootIds;
+
+    @Schema(
+        title = "Parallelism",
+        description = "When greater than 1 and no `projectId` is set, projects are listed first and their tasks fetched concurrently, " +
+            "with at most this number of requests in flight; fewer when the adaptive limiter shared by the API token backs off. " +
+            "Tasks are merged in project order, so the result is stable."
+    )
+    @Builder.Default
+    @Min(1)
+    private Property<Integer> parallelism = Property.ofValue(1);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
         
         String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
         
-        StringBuilder urlBuilder = new StringBuilder("/tasks");
-        
-        runContext.render(projectId).as(String.class).ifPresent(p -> {
-            urlBuilder.append("?project_id=").append(p);
-        });
-        
-        String endpoint = urlBuilder.toString();
-        
-        TodoistClient client = new TodoistClient(runContext, rToken, BASE_URL);
-        List<Map<String, Object>> tasks = client.getList(endpoint);
-        
+        String rProjectId = runContext.render(projectId).as(String.class).orElse(null);
+        int rParallelism = runContext.render(parallelism).as(Integer.class).orElse(1);
+
+        List<Map<String, Object>> tasks;
+
+        if (rProjectId == null && rParallelism > 1) {
+            // only concurrent requests go through the limiter shared by the API token
+            AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.forToken(rToken);
+            tasks = listByProject(new TodoistClient(runContext, rToken, restBaseUrl(runContext), limiter), rParallelism);
+            runContext.metric(Counter.of("concurrency.limit", limiter.getLimit()));
+        } else {
+            TodoistClient client = new TodoistClient(runContext, rToken, restBaseUrl(runContext));
+            tasks = client.getList("/tasks" + (rProjectId != null ? "?project_id=" + rProjectId : ""));
+        }
+
         logger.info("Retrieved {} tasks", tasks.size());
-        
+
+        List<Map<String, Object>> result = tasks;
+        if (runContext.render(outputMode).as(OutputMode.class).orElse(OutputMode.FLAT) == OutputMode.TREE) {
+            result = TaskTree.build(tasks, runContext.render(rootIds).asList(String.class));
+        }
+
+        Optional<URI> uri = spillIfOversized(runContext, result);
+
         return Output.builder()
-            .tasks(tasks)
+            .tasks(uri.isPresent() ? null : result)
+            .uri(uri.orElse(null))
             .count(tasks.size())
             .build();
     }
 
+    private static List<Map<String, Object>> listByProject(TodoistClient client, int parallelism) throws Exception {
+        List<Map<String, Object>> projects = client.getList("/projects");
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<CompletableFuture<List<Map<String, Object>>>> shards = new ArrayList<>(projects.size());
+        AtomicBoolean failed = new AtomicBoolean(false);
+
+        try {
+            for (Map<String, Object> project : projects) {
+                inFlight.acquire();
+                if (failed.get()) {
+                    // no new shard once one failed, the join below rethrows its failure
+                    break;
+                }
+
+                CompletableFuture<List<Map<String, Object>>> shard = client.getListAsync("/tasks?project_id=" + project.get("id"));
+                shard.whenComplete((tasks, e) -> {
+                    if (e != null) {
+                        failed.set(true);
+                    }
+                    inFlight.release();
+                });
+                shards.add(shard);
+            }
+
+            // shards are joined in project order, so the output order does not depend on response timing
+            List<Map<String, Object>> tasks = new ArrayList<>();
+            for (CompletableFuture<List<Map<String, Object>>> shard : shards) {
+                tasks.addAll(TodoistClient.await(shard));
+            }
+
+            return tasks;
+        } finally {
+            // when a shard failed or the run is killed, the shards still in flight are interrupted too
+            shards.forEach(shard -> shard.cancel(true));
+        }
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
         @Schema(
             title = "Tasks",
-            description = "List of tasks retrieved from Todoist"
+            description = "List of tasks retrieved from Todoist (the root tasks in `TREE` mode), unless it exceeds `maxInlineOutputSize`"
         )
         private final List<Map<String, Object>> tasks;
+
+        @Schema(
+            title = "Tasks file",
+            description = "URI of an ION file with one task per record, when the list exceeds `maxInlineOutputSize`"
+        )
+        private final URI uri;
         
         @Schema(
             title = "Count",
@@ -89,4 +187,9 @@ public class ListTasks extends AbstractTodoistTask implements RunnableTask<ListT
         )
         private final Integer count;
     }
+
+    public enum OutputMode {
+        FLAT,
+        TREE
+    }
 }
@@ -0,0 +1,252 @@
+package io.kestra.plugin.todoist.tasks.read;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.TodoistClient;
+import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import io.kestra.plugin.todoist.common.FileFormat;
+import io.kestra.plugin.todoist.common.RecordWriter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.slf4j.Logger;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "List tasks across many Todoist accounts",
+    description = "Queries the tasks of several accounts concurrently, with a single streamed request per account and " +
+        "`concurrency` bounding the accounts queried at once, and merges them into a single file in internal storage, " +
+        "each task tagged with its `account`. " +
+        "A failing account does not fail the run: its error is reported in `errors` and its tasks are left out of the file."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "List the tasks of several accounts from explicit tokens",
+            code = {
+                "apiTokens:",
+                "  alice: \"{{ secret('TODOIST_TOKEN_ALICE') }}\"",
+                "  bob: \"{{ secret('TODOIST_TOKEN_BOB') }}\"",
+                "filter: \"overdue\""
+            }
+        ),
+        @Example(
+            title = "List the tasks of several accounts from secrets sharing a prefix",
+            code = {
+                "accounts:",
+                "  - ALICE",
+                "  - BOB",
+                "secretPrefix: TODOIST_TOKEN_",
+                "format: CSV"
+            }
+        )
+    }
+)
+public class ListTasksAcrossAccounts extends Task implements RunnableTask<ListTasksAcrossAccounts.Output> {
+
+    @Schema(
+        title = "API tokens",
+        description = "Todoist API tokens by account name"
+    )
+    private Property<Map<String, String>> apiTokens;
+
+    @Schema(
+        title = "Accounts",
+        description = "Account names whose token is read from the secret `secretPrefix` + account name"
+    )
+    private Property<List<String>> accounts;
+
+    @Schema(
+        title = "Secret prefix",
+        description = "Prefix of the secrets holding the tokens of `accounts`"
+    )
+    private Property<String> secretPrefix;
+
+    @Schema(
+        title = "Filter",
+        description = "A Todoist filter query applied to every account"
+    )
+    private Property<String> filter;
+
+    @Schema(
+        title = "Concurrency",
+        description = "Maximum number of accounts queried at the same time"
+    )
+    @Builder.Default
+    @Min(1)
+    private Property<Integer> concurrency = Property.ofValue(16);
+
+    @Schema(
+        title = "Output format",
+        description = "Format of the merged file"
+    )
+    @Builder.Default
+    private Property<FileFormat> format = Property.ofValue(FileFormat.ION);
+
+    @Schema(
+        title = "CSV columns",
+        description = "Task fields written as CSV columns, in order; nested values are written as JSON. Ignored for other formats."
+    )
+    @Builder.Default
+    private Property<List<String>> columns = Property.ofValue(List.of(
+        "account", "id", "content", "description", "project_id", "section_id", "parent_id", "order",
+        "priority", "labels", "due", "is_completed", "created_at", "url"
+    ));
+
+    @Schema(
+        title = "API origin",
+        description = "Scheme and host of the Todoist API. The API token is sent to it, so only change it to target " +
+            "a local stub, e.g. in load tests"
+    )
+    @Builder.Default
+    private Property<String> apiOrigin = Property.ofValue(AbstractTodoistTask.API_ORIGIN);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        Map<String, String> rTokens = new LinkedHashMap<>(runContext.render(apiTokens).asMap(String.class, String.class));
+        List<String> rAccounts = runContext.render(accounts).asList(String.class);
+        if (!rAccounts.isEmpty()) {
+            String rSecretPrefix = runContext.render(secretPrefix).as(String.class)
+                .orElseThrow(() -> new IllegalArgumentException("secretPrefix is required when accounts is set"));
+            for (String account : rAccounts) {
+                rTokens.put(account, runContext.render("{{ secret(prefix ~ account) }}", Map.of("prefix", rSecretPrefix, "account", account)));
+            }
+        }
+        if (rTokens.isEmpty()) {
+            throw new IllegalArgumentException("At least one account must be provided with apiTokens or accounts");
+        }
+
+        String rFilter = runContext.render(filter).as(String.class).orElse(null);
+        int rConcurrency = runContext.render(concurrency).as(Integer.class).orElseThrow();
+        FileFormat rFormat = runContext.render(format).as(FileFormat.class).orElseThrow();
+        List<String> rColumns = runContext.render(columns).asList(String.class);
+
+        String baseUrl = AbstractTodoistTask.restBaseUrl(runContext.render(apiOrigin).as(String.class).orElse(AbstractTodoistTask.API_ORIGIN));
+        String endpoint = "/tasks" + (rFilter != null ? "?filter=" + URLEncoder.encode(rFilter, StandardCharsets.UTF_8) : "");
+        Semaphore inFlight = new Semaphore(rConcurrency);
+        Map<String, Future<AccountPart>> parts = new LinkedHashMap<>();
+
+        Path merged = runContext.workingDir().createTempFile(rFormat.extension());
+        Map<String, Long> counts = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        long total = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, String> account : rTokens.entrySet()) {
+                parts.put(account.getKey(), executor.submit(() -> {
+                    inFlight.acquire();
+                    try {
+                        return listAccount(runContext, account.getKey(), account.getValue(), baseUrl, endpoint, rFormat, rColumns);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            // writes the CSV header, if any, before the account parts
+            RecordWriter.of(rFormat, merged, rColumns).close();
+
+            // parts are concatenated in declaration order, so the file is stable whatever the completion order
+            try (OutputStream output = Files.newOutputStream(merged, StandardOpenOption.APPEND)) {
+                for (Map.Entry<String, Future<AccountPart>> part : parts.entrySet()) {
+                    try {
+                        AccountPart accountPart = part.getValue().get();
+                        Files.copy(accountPart.file(), output);
+                        Files.delete(accountPart.file());
+
+                        counts.put(part.getKey(), accountPart.count());
+                        total += accountPart.count();
+                    } catch (ExecutionException e) {
+                        errors.put(part.getKey(), e.getCause().getMessage());
+                        logger.warn("Failed to list tasks of account {}: {}", part.getKey(), e.getCause().getMessage());
+                    }
+                }
+            }
+        }
+
+        runContext.metric(Counter.of("records", total));
+        runContext.metric(Counter.of("accounts.failed", errors.size()));
+        logger.info("Listed {} tasks across {} accounts, {} failed", total, rTokens.size(), errors.size());
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(merged.toFile()))
+            .count(total)
+            .counts(counts)
+            .errors(errors)
+            .build();
+    }
+
+    private static AccountPart listAccount(RunContext runContext, String account, String token, String baseUrl, String endpoint, FileFormat format, List<String> columns) throws Exception {
+        // a single request per token, so no limiter is needed: concurrency is across accounts, each with its own rate limit
+        TodoistClient client = new TodoistClient(runContext, token, baseUrl);
+        Path file = runContext.workingDir().createTempFile(format.extension());
+
+        try (RecordWriter writer = RecordWriter.of(format, file, columns, true)) {
+            client.stream(endpoint, null, task -> {
+                task.put("account", account);
+                writer.write(task);
+            });
+
+            return new AccountPart(file, writer.count());
+        }
+    }
+
+    private record AccountPart(Path file, long count) {
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Tasks file",
+            description = "URI of the file with the tasks of every successful account, each tagged with its `account`"
+        )
+        private final URI uri;
+
+        @Schema(
+            title = "Count",
+            description = "Total number of tasks listed"
+        )
+        private final Long count;
+
+        @Schema(
+            title = "Counts by account",
+            description = "Number of tasks listed for each successful account"
+        )
+        private final Map<String, Long> counts;
+
+        @Schema(
+            title = "Errors by account",
+            description = "Error message for each account that could not be listed"
+        )
+        private final Map<String, String> errors;
+    }
+}
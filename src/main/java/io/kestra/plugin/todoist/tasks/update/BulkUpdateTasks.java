@@ -0,0 +1,252 @@
+package io.kestra.plugin.todoist.tasks.update;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.AdaptiveConcurrencyLimiter;
+import io.kestra.plugin.todoist.client.TodoistClient;
+import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.slf4j.Logger;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Update every Todoist task matching a filter",
+    description = "Resolves the tasks matching a Todoist filter in one request and applies a patch to all of them with batched " +
+        "Sync API `item_update` and `item_move` commands. Tasks the patch would not change are left untouched."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Escalate overdue Ops tasks to urgent, due today",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "filter: \"overdue & #Ops\"",
+                "priority: 4",
+                "dueString: \"today\""
+            }
+        ),
+        @Example(
+            title = "Prefix and move every task with a label",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "filter: \"@migrate\"",
+                "content: \"[legacy] {{ task.content }}\"",
+                "moveToProjectId: \"2203306141\""
+            }
+        )
+    }
+)
+public class BulkUpdateTasks extends AbstractTodoistTask implements RunnableTask<BulkUpdateTasks.Output> {
+
+    private static final int MAX_COMMANDS = 100;
+
+    @Schema(
+        title = "Filter",
+        description = "A Todoist filter query selecting the tasks to update (e.g., 'overdue & #Ops')"
+    )
+    @NotNull
+    private Property<String> filter;
+
+    @Schema(
+        title = "Task content",
+        description = "New content, rendered for each task with the task available as the `task` variable"
+    )
+    private Property<String> content;
+
+    @Schema(
+        title = "Priority",
+        description = "New priority from 1 (normal) to 4 (urgent)"
+    )
+    private Property<Integer> priority;
+
+    @Schema(
+        title = "Due string",
+        description = "New human-defined due date (e.g., 'today', 'next Monday')"
+    )
+    private Property<String> dueString;
+
+    @Schema(
+        title = "Labels",
+        description = "New labels, replacing the current ones"
+    )
+    private Property<List<String>> labels;
+
+    @Schema(
+        title = "Move to project",
+        description = "ID of the project to move the tasks to"
+    )
+    private Property<String> moveToProjectId;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        String rFilter = runContext.render(filter).as(String.class).orElseThrow();
+        Integer rPriority = runContext.render(priority).as(Integer.class).orElse(null);
+        String rDueString = runContext.render(dueString).as(String.class).orElse(null);
+        List<String> rLabels = labels != null ? runContext.render(labels).asList(String.class) : null;
+        String rMoveToProjectId = runContext.render(moveToProjectId).as(String.class).orElse(null);
+
+        if (content == null && rPriority == null && rDueString == null && rLabels == null && rMoveToProjectId == null) {
+            throw new IllegalArgumentException("At least one field must be provided to update");
+        }
+
+        TodoistClient client = new TodoistClient(runContext, rToken, restBaseUrl(runContext));
+        List<Map<String, Object>> tasks = client.getList("/tasks?filter=" + URLEncoder.encode(rFilter, StandardCharsets.UTF_8));
+
+        List<Map<String, Object>> commands = new ArrayList<>();
+        Map<String, String> taskIdByUuid = new HashMap<>();
+
+        for (Map<String, Object> task : tasks) {
+            String taskId = task.get("id").toString();
+            Map<String, Object> args = new HashMap<>();
+
+            if (content != null) {
+                // rendered per task, so the value cached by the property for the previous task must not be reused
+                String rContent = runContext.render(content.skipCache()).as(String.class, Map.of("task", task)).orElseThrow();
+                if (!rContent.equals(task.get("content"))) {
+                    args.put("content", rContent);
+                }
+            }
+            if (rPriority != null && !rPriority.equals(task.get("priority"))) {
+                args.put("priority", rPriority);
+            }
+            if (rDueString != null) {
+                args.put("due", Map.of("string", rDueString));
+            }
+            if (rLabels != null && !new HashSet<>(rLabels).equals(new HashSet<>((List<?>) task.getOrDefault("labels", List.of())))) {
+                args.put("labels", rLabels);
+            }
+
+            if (!args.isEmpty()) {
+                args.put("id", taskId);
+                commands.add(command("item_update", args, taskId, taskIdByUuid));
+            }
+            if (rMoveToProjectId != null && !rMoveToProjectId.equals(Objects.toString(task.get("project_id"), null))) {
+                commands.add(command("item_move", Map.of("id", taskId, "project_id", rMoveToProjectId), taskId, taskIdByUuid));
+            }
+        }
+
+        // only concurrent batches go through the limiter shared by the API token
+        AdaptiveConcurrencyLimiter limiter = commands.size() > MAX_COMMANDS ? AdaptiveConcurrencyLimiter.forToken(rToken) : null;
+        TodoistClient syncClient = new TodoistClient(runContext, rToken, syncBaseUrl(runContext), limiter);
+        Set<String> updated = new HashSet<>();
+        Set<String> failed = new HashSet<>();
+
+        // batches are sent together, the adaptive limiter bounding how many are in flight
+        List<List<Map<String, Object>>> batches = new ArrayList<>();
+        List<CompletableFuture<Map<String, Object>>> responses = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i += MAX_COMMANDS) {
+            List<Map<String, Object>> batch = commands.subList(i, Math.min(i + MAX_COMMANDS, commands.size()));
+            batches.add(batch);
+            responses.add(syncClient.postAsync("/sync", Map.of("commands", batch)));
+        }
+
+        try {
+            for (int i = 0; i < batches.size(); i++) {
+                Map<String, Object> syncStatus = syncStatus(responses.get(i), logger);
+
+                for (Map<String, Object> command : batches.get(i)) {
+                    String uuid = command.get("uuid").toString();
+                    if ("ok".equals(syncStatus.get(uuid))) {
+                        updated.add(taskIdByUuid.get(uuid));
+                    } else {
+                        failed.add(taskIdByUuid.get(uuid));
+                    }
+                }
+            }
+        } finally {
+            // when the run is killed while waiting, the batches still in flight are interrupted too
+            responses.forEach(response -> response.cancel(true));
+        }
+
+        // a task with one failed command out of two is reported as failed only
+        updated.removeAll(failed);
+
+        runContext.metric(Counter.of("tasks", tasks.size(), "status", "matched"));
+        runContext.metric(Counter.of("tasks", updated.size(), "status", "changed"));
+        runContext.metric(Counter.of("tasks", failed.size(), "status", "failed"));
+        if (limiter != null) {
+            runContext.metric(Counter.of("concurrency.limit", limiter.getLimit()));
+        }
+        logger.info("{} tasks matched, {} changed, {} failed", tasks.size(), updated.size(), failed.size());
+
+        return Output.builder()
+            .matched(tasks.size())
+            .changed(updated.size())
+            .failed(failed.size())
+            .build();
+    }
+
+    private static Map<String, Object> command(String type, Map<String, Object> args, String taskId, Map<String, String> taskIdByUuid) {
+        String uuid = UUID.randomUUID().toString();
+        taskIdByUuid.put(uuid, taskId);
+
+        Map<String, Object> command = new LinkedHashMap<>();
+        command.put("type", type);
+        command.put("uuid", uuid);
+        command.put("args", args);
+
+        return command;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> syncStatus(CompletableFuture<Map<String, Object>> response, Logger logger) throws InterruptedException {
+        try {
+            return (Map<String, Object>) TodoistClient.await(response).getOrDefault("sync_status", Map.of());
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            // the commands of this batch are reported as failed, the other batches are still sent
+            logger.warn("Sync request failed: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Matched",
+            description = "Number of tasks matching the filter"
+        )
+        private final Integer matched;
+
+        @Schema(
+            title = "Changed",
+            description = "Number of tasks updated"
+        )
+        private final Integer changed;
+
+        @Schema(
+            title = "Failed",
+            description = "Number of tasks that could not be updated"
+        )
+        private final Integer failed;
+    }
+}
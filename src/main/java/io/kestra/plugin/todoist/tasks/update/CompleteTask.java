@@ -6,6 +6,7 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.VoidOutput;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.SyncCommandBatcher;
 import io.kestra.plugin.todoist.client.TodoistClient;
 import io.kestra.plugin.todoist.common.AbstractTodoistTask;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,6 +15,8 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.slf4j.Logger;
 
+import java.util.Map;
+
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -31,6 +34,14 @@ import org.slf4j.Logger;
                 "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
                 "taskId: \"7498765432\""
             }
+        ),
+        @Example(
+            title = "Complete many tasks in parallel, batched into Sync API requests",
+            code = {
+                "apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "taskId: \"{{ taskrun.value }}\"",
+                "batching: true"
+            }
         )
     }
 )
@@ -43,6 +54,14 @@ public class CompleteTask extends AbstractTodoistTask implements RunnableTask<Vo
     @NotNull
     private Property<String> taskId;
 
+    @Schema(
+        title = "Batching",
+        description = "Hand the completion to a per-worker aggregator that sends the commands of concurrent task runs " +
+            "using the same API token as a single Sync API request, e.g. inside an `EachParallel`"
+    )
+    @Builder.Default
+    private Property<Boolean> batching = Property.ofValue(false);
+
     @Override
     public VoidOutput run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
@@ -50,8 +69,12 @@ public class CompleteTask extends AbstractTodoistTask implements RunnableTask<Vo
         String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
         String rTaskId = runContext.render(taskId).as(String.class).orElseThrow();
         
-        TodoistClient client = new TodoistClient(runContext, rToken, BASE_URL);
-        client.postVoid("/tasks/" + rTaskId + "/close");
+        if (runContext.render(batching).as(Boolean.class).orElse(false)) {
+            SyncCommandBatcher.of(rToken, syncBaseUrl(runContext)).execute("item_close", Map.of("id", rTaskId));
+        } else {
+            TodoistClient client = new TodoistClient(runContext, rToken, restBaseUrl(runContext));
+            client.postVoid("/tasks/" + rTaskId + "/close");
+        }
         
         logger.info("Task {} completed successfully", rTaskId);
         
@@ -98,7 +98,7 @@ public class UpdateTask extends AbstractTodoistTask implements RunnableTask<Task
             throw new IllegalArgumentException("At least one field must be provided to update");
         }
         
-        TodoistClient client = new TodoistClient(runContext, rToken, BASE_URL);
+        TodoistClient client = new TodoistClient(runContext, rToken, restBaseUrl(runContext));
         Map<String, Object> result = client.post("/tasks/" + rTaskId, requestBody);
         
         logger.info("Task {} updated successfully", rTaskId);
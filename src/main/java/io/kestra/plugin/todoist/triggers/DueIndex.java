@@ -0,0 +1,154 @@
+package io.kestra.plugin.todoist.triggers;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Time-ordered index of the due tasks of an account, kept up to date from Sync API item deltas.
+ * <p>
+ * Entries are never removed from the queue when a task changes: superseded entries are skipped when polled, as they no longer
+ * match the current entry of their task. A task fires once per due instant, so a recurring task fires again once its
+ * due date moves forward.
+ */
+class DueIndex {
+
+    private final ZoneId zoneId;
+
+    private final boolean includeAllDay;
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparing(Entry::due));
+
+    private final Map<String, Entry> current = new HashMap<>();
+
+    private final Set<Entry> fired = new HashSet<>();
+
+    private String syncToken = "*";
+
+    private Instant refreshedAt;
+
+    DueIndex(ZoneId zoneId, boolean includeAllDay) {
+        this.zoneId = zoneId;
+        this.includeAllDay = includeAllDay;
+    }
+
+    String syncToken() {
+        return syncToken;
+    }
+
+    Instant refreshedAt() {
+        return refreshedAt;
+    }
+
+    int size() {
+        return current.size();
+    }
+
+    /**
+     * Applies a Sync API response: the first one is a full sync, the following ones only carry the items changed since.
+     * Tasks already due when the index is first loaded are not fired.
+     */
+    void apply(List<Map<String, Object>> items, String newSyncToken, Instant now) {
+        boolean initial = refreshedAt == null;
+
+        for (Map<String, Object> item : items) {
+            String id = item.get("id").toString();
+            Instant due = dueInstant(item);
+
+            if (due == null || Boolean.TRUE.equals(item.get("is_deleted")) || Boolean.TRUE.equals(item.get("checked"))) {
+                current.remove(id);
+                continue;
+            }
+
+            Entry entry = new Entry(id, due, item);
+            Entry previous = current.put(id, entry);
+            if (previous == null || !previous.due().equals(due)) {
+                queue.add(entry);
+            }
+            if (initial && !due.isAfter(now)) {
+                fired.add(entry);
+            }
+        }
+
+        this.syncToken = newSyncToken;
+        this.refreshedAt = now;
+    }
+
+    /**
+     * @return the tasks whose due instant is at or before {@code now} and that have not fired yet for that instant
+     */
+    List<Map<String, Object>> pollDue(Instant now) {
+        List<Map<String, Object>> due = new ArrayList<>();
+
+        while (!queue.isEmpty() && !queue.peek().due().isAfter(now)) {
+            Entry entry = queue.poll();
+            Entry latest = current.get(entry.id());
+
+            if (latest != null && latest.due().equals(entry.due()) && fired.add(latest)) {
+                due.add(latest.task());
+            }
+        }
+
+        // fired entries only matter while their task is still due at that instant
+        fired.removeIf(entry -> {
+            Entry latest = current.get(entry.id());
+            return latest == null || !latest.due().equals(entry.due());
+        });
+
+        return due;
+    }
+
+    /**
+     * Resolves the due instant of a task: fixed-timezone datetimes are UTC instants, floating datetimes are read in the
+     * index time zone, and all-day dates start at midnight in that zone when {@code includeAllDay} is set.
+     */
+    @SuppressWarnings("unchecked")
+    Instant dueInstant(Map<String, Object> item) {
+        if (!(item.get("due") instanceof Map<?, ?> dueMap)) {
+            return null;
+        }
+        Map<String, Object> due = (Map<String, Object>) dueMap;
+
+        String date = due.get("date") != null ? due.get("date").toString() : null;
+        String datetime = due.get("datetime") != null ? due.get("datetime").toString() : null;
+        if (datetime == null && date != null && date.contains("T")) {
+            datetime = date;
+        }
+
+        if (datetime != null) {
+            if (datetime.endsWith("Z")) {
+                return Instant.parse(datetime);
+            }
+            ZoneId zone = due.get("timezone") != null ? ZoneId.of(due.get("timezone").toString()) : zoneId;
+            return LocalDateTime.parse(datetime).atZone(zone).toInstant();
+        }
+
+        if (date != null && includeAllDay) {
+            return LocalDate.parse(date).atStartOfDay(zoneId).toInstant();
+        }
+
+        return null;
+    }
+
+    record Entry(String id, Instant due, Map<String, Object> task) {
+        // identity is the task at a given due instant, whatever the rest of its content
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry other && id.equals(other.id) && due.equals(other.due);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode() * 31 + due.hashCode();
+        }
+    }
+}
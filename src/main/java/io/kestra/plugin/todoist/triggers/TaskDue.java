@@ -0,0 +1,232 @@
+package io.kestra.plugin.todoist.triggers;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.models.triggers.PollingTriggerInterface;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.TriggerOutput;
+import io.kestra.core.models.triggers.TriggerService;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.todoist.client.TodoistClient;
+import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.slf4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Trigger a flow when Todoist tasks become due",
+    description = "Keeps an in-memory, time-ordered index of the tasks with a due date, refreshed incrementally from the Sync API " +
+        "every `refreshInterval`, and checks it every `interval` without calling the API. " +
+        "An execution is created as soon as one or more tasks reach their due time; recurring tasks fire again for each occurrence. " +
+        "Tasks already due when the index is first loaded, e.g. after a worker restart or a change of `apiToken`, `apiOrigin`, " +
+        "`timezone` or `includeAllDay`, do not fire."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Send a reminder when a task is due",
+            full = true,
+            code = {
+                "id: todoist_due_reminder",
+                "namespace: company.team",
+                "",
+                "tasks:",
+                "  - id: log",
+                "    type: io.kestra.plugin.core.log.Log",
+                "    message: \"{{ trigger.count }} tasks due now\"",
+                "",
+                "triggers:",
+                "  - id: due",
+                "    type: io.kestra.plugin.todoist.triggers.TaskDue",
+                "    apiToken: \"{{ secret('TODOIST_API_TOKEN') }}\"",
+                "    timezone: Europe/Paris"
+            }
+        )
+    }
+)
+public class TaskDue extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<TaskDue.Output> {
+
+    // one index per trigger, rebuilt when its settings change and dropped once the trigger is no longer evaluated
+    private static final Map<String, Slot> INDEXES = new ConcurrentHashMap<>();
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofHours(1);
+
+    @Schema(
+        title = "Todoist API token",
+        description = "Your Todoist API token for authentication. Get it from https://todoist.com/app/settings/integrations/developer"
+    )
+    @NotNull
+    private Property<String> apiToken;
+
+    @Schema(
+        title = "Check interval",
+        description = "How often the in-memory index is checked for tasks that became due"
+    )
+    @Builder.Default
+    private Duration interval = Duration.ofMinutes(1);
+
+    @Schema(
+        title = "Refresh interval",
+        description = "How often changes are fetched from the Sync API to update the index"
+    )
+    @Builder.Default
+    private Property<Duration> refreshInterval = Property.ofValue(Duration.ofMinutes(15));
+
+    @Schema(
+        title = "Time zone",
+        description = "Time zone of floating due times and all-day due dates, usually the Todoist account time zone"
+    )
+    @Builder.Default
+    private Property<String> timezone = Property.ofValue("UTC");
+
+    @Schema(
+        title = "Include all-day tasks",
+        description = "Also fire for tasks with a due date but no time, at midnight in `timezone`"
+    )
+    @Builder.Default
+    private Property<Boolean> includeAllDay = Property.ofValue(false);
+
+    @Schema(
+        title = "API origin",
+        description = "Scheme and host of the Todoist API. The API token is sent to it, so only change it to target " +
+            "a local stub, e.g. in load tests"
+    )
+    @Builder.Default
+    private Property<String> apiOrigin = Property.ofValue(AbstractTodoistTask.API_ORIGIN);
+
+    @Override
+    public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        Logger logger = runContext.logger();
+
+        String rToken = runContext.render(apiToken).as(String.class).orElseThrow();
+        Duration rRefreshInterval = runContext.render(refreshInterval).as(Duration.class).orElseThrow();
+        ZoneId rZoneId = ZoneId.of(runContext.render(timezone).as(String.class).orElseThrow());
+        boolean rIncludeAllDay = runContext.render(includeAllDay).as(Boolean.class).orElse(false);
+        String rSyncBaseUrl = AbstractTodoistTask.syncBaseUrl(runContext.render(apiOrigin).as(String.class).orElse(AbstractTodoistTask.API_ORIGIN));
+
+        Instant now = Instant.now();
+        evictIdle(now);
+
+        String key = String.join("_", context.getNamespace(), context.getFlowId(), context.getTriggerId());
+        String settings = settingsHash(rToken, rSyncBaseUrl, rZoneId, rIncludeAllDay);
+        Slot slot = INDEXES.compute(key, (k, existing) -> {
+            Slot current = existing != null && existing.settings.equals(settings)
+                ? existing
+                : new Slot(settings, new DueIndex(rZoneId, rIncludeAllDay));
+            // the index must outlive the gap between two evaluations, however long the interval
+            current.expiresAt = now.plus(IDLE_TIMEOUT).plus(interval.multipliedBy(2));
+            return current;
+        });
+        DueIndex index = slot.index;
+
+        List<Map<String, Object>> due;
+        synchronized (index) {
+            if (index.refreshedAt() == null || index.refreshedAt().plus(rRefreshInterval).isBefore(now)) {
+                refresh(runContext, rToken, rSyncBaseUrl, index, now);
+                logger.debug("Refreshed due index, {} tasks with a due time", index.size());
+            }
+
+            due = index.pollDue(now);
+        }
+
+        if (due.isEmpty()) {
+            return Optional.empty();
+        }
+
+        logger.info("{} tasks became due", due.size());
+
+        Output output = Output.builder()
+            .tasks(due)
+            .count(due.size())
+            .build();
+
+        return Optional.of(TriggerService.generateExecution(this, conditionContext, context, output));
+    }
+
+    private static void evictIdle(Instant now) {
+        for (String key : INDEXES.keySet()) {
+            INDEXES.computeIfPresent(key, (k, slot) -> slot.expiresAt.isBefore(now) ? null : slot);
+        }
+    }
+
+    /**
+     * A SHA-256 hash of the rendered settings the index depends on, so that no token is kept on the heap.
+     */
+    private static String settingsHash(String rToken, String rSyncBaseUrl, ZoneId rZoneId, boolean rIncludeAllDay) {
+        try {
+            String settings = String.join("\n", rToken, rSyncBaseUrl, rZoneId.getId(), String.valueOf(rIncludeAllDay));
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(settings.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void refresh(RunContext runContext, String rToken, String rSyncBaseUrl, DueIndex index, Instant now) throws Exception {
+        TodoistClient client = new TodoistClient(runContext, rToken, rSyncBaseUrl);
+        Map<String, Object> response = client.post("/sync", Map.of(
+            "sync_token", index.syncToken(),
+            "resource_types", List.of("items")
+        ));
+
+        index.apply(
+            (List<Map<String, Object>>) response.getOrDefault("items", List.of()),
+            response.get("sync_token").toString(),
+            now
+        );
+    }
+
+    private static final class Slot {
+        private final String settings;
+
+        private final DueIndex index;
+
+        private volatile Instant expiresAt;
+
+        private Slot(String settings, DueIndex index) {
+            this.settings = settings;
+            this.index = index;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Tasks",
+            description = "The tasks that became due since the previous check"
+        )
+        private final List<Map<String, Object>> tasks;
+
+        @Schema(
+            title = "Count",
+            description = "Number of tasks that became due"
+        )
+        private final Integer count;
+    }
+}
@@ -0,0 +1,54 @@
+package io.kestra.plugin.todoist.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void testIncreasesWhileHealthy() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire();
+            limiter.release(Duration.ofMillis(100), false);
+        }
+
+        assertThat(limiter.getLimit(), greaterThan(2));
+    }
+
+    @Test
+    void testHalvesWhenOverloaded() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(16);
+
+        limiter.acquire();
+        limiter.release(Duration.ofMillis(100), true);
+        assertThat(limiter.getLimit(), is(8));
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.release(Duration.ofMillis(100), true);
+        }
+        assertThat(limiter.getLimit(), is(1));
+    }
+
+    @Test
+    void testDoesNotIncreaseWhenLatencyDegrades() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4);
+
+        limiter.acquire();
+        limiter.release(Duration.ofMillis(100), false);
+        int limit = limiter.getLimit();
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+            limiter.release(Duration.ofSeconds(5), false);
+        }
+
+        assertThat(limiter.getLimit(), is(limit));
+    }
+}
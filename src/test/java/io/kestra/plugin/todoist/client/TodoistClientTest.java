@@ -0,0 +1,112 @@
+package io.kestra.plugin.todoist.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.todoist.common.AbstractTodoistTask;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class TodoistClientTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testAsyncRequestsOverlap() throws Exception {
+        Cassette.install(Path.of(Objects.requireNonNull(getClass().getClassLoader().getResource("cassettes/tasks.json")).toURI()), Cassette.Mode.REPLAY);
+
+        try {
+            RunContext runContext = runContextFactory.of();
+            TodoistClient client = new TodoistClient(runContext, "replayed", AbstractTodoistTask.BASE_URL);
+
+            CompletableFuture<Map<String, Object>> task = client.getAsync("/tasks/7498765432");
+            CompletableFuture<List<Map<String, Object>>> tasks = client.getListAsync("/tasks");
+
+            assertThat(TodoistClient.await(task).get("content"), is("Write release notes"));
+            assertThat(TodoistClient.await(tasks), hasSize(3));
+        } finally {
+            Cassette.uninstall();
+        }
+    }
+
+    @Test
+    void testAwaitRethrowsApiErrors() throws Exception {
+        Cassette.install(Path.of(Objects.requireNonNull(getClass().getClassLoader().getResource("cassettes/tasks.json")).toURI()), Cassette.Mode.REPLAY);
+
+        try {
+            RunContext runContext = runContextFactory.of();
+            TodoistClient client = new TodoistClient(runContext, "replayed", AbstractTodoistTask.BASE_URL);
+
+            CompletableFuture<Map<String, Object>> missing = client.getAsync("/tasks/404");
+
+            TodoistApiException exception = assertThrows(TodoistApiException.class, () -> TodoistClient.await(missing));
+            assertThat(exception.getStatusCode(), is(404));
+        } finally {
+            Cassette.uninstall();
+        }
+    }
+
+    @Test
+    void testRecordedStreamReplays(@TempDir Path directory) throws Exception {
+        // the array is followed by another field, which the recording must keep although the stream stops reading before it
+        String body = "{\"items\":[{\"id\":\"1\"},{\"id\":\"2\"}],\"next_cursor\":\"abc\"}";
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/sync/v9/completed/get_all", exchange -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+
+        Path file = directory.resolve("recorded.json");
+        RunContext runContext = runContextFactory.of();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/sync/v9";
+
+        try {
+            Cassette.install(file, Cassette.Mode.RECORD);
+            List<Map<String, Object>> recorded = new ArrayList<>();
+            long count = new TodoistClient(runContext, "recorded", baseUrl).stream("/completed/get_all", "items", recorded::add);
+
+            assertThat(count, is(2L));
+            assertThat(recorded.get(1).get("id"), is("2"));
+        } finally {
+            Cassette.uninstall();
+            server.stop(0);
+        }
+
+        assertThat(Files.readString(file), containsString("next_cursor"));
+
+        try {
+            Cassette.install(file, Cassette.Mode.REPLAY);
+            List<Map<String, Object>> replayed = new ArrayList<>();
+            long count = new TodoistClient(runContext, "replayed", baseUrl).stream("/completed/get_all", "items", replayed::add);
+
+            assertThat(count, is(2L));
+            assertThat(replayed.getFirst().get("id"), is("1"));
+        } finally {
+            Cassette.uninstall();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.kestra.plugin.todoist.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class TokenRegistryTest {
+
+    @Test
+    void testSharesValuesByToken() {
+        TokenRegistry<Object> registry = new TokenRegistry<>(value -> true);
+
+        Object first = registry.get("token-a", Object::new);
+
+        assertThat(registry.get("token-a", Object::new), sameInstance(first));
+        assertThat(registry.get("token-b", Object::new), not(sameInstance(first)));
+        assertThat(registry.size(), is(2));
+    }
+
+    @Test
+    void testDoesNotKeepTheToken() {
+        assertThat(TokenRegistry.hash("secret-token"), not(containsString("secret-token")));
+        assertThat(TokenRegistry.hash("secret-token"), is(TokenRegistry.hash("secret-token")));
+    }
+
+    @Test
+    void testEvictsIdleValues() {
+        TokenRegistry<Object> registry = new TokenRegistry<>(value -> true);
+        registry.get("token-a", Object::new);
+
+        registry.sweep(System.nanoTime() + TokenRegistry.IDLE_TIMEOUT.plus(Duration.ofMinutes(2)).toNanos());
+
+        assertThat(registry.size(), is(0));
+    }
+
+    @Test
+    void testKeepsBusyValues() {
+        TokenRegistry<Object> registry = new TokenRegistry<>(value -> false);
+        registry.get("token-a", Object::new);
+
+        registry.sweep(System.nanoTime() + TokenRegistry.IDLE_TIMEOUT.plus(Duration.ofMinutes(2)).toNanos());
+
+        assertThat(registry.size(), is(1));
+    }
+}
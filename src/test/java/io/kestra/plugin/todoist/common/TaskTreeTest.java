@@ -0,0 +1,62 @@
+package io.kestra.plugin.todoist.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class TaskTreeTest {
+
+    @Test
+    void testBuildTree() {
+        List<Map<String, Object>> tasks = List.of(
+            task("3", "1", 2),
+            task("1", null, 2),
+            task("2", "1", 1),
+            task("4", "2", 1),
+            task("5", null, 1),
+            task("6", "missing", 3)
+        );
+
+        List<Map<String, Object>> roots = TaskTree.build(tasks, null);
+
+        assertThat(roots.stream().map(t -> t.get("id")).toList(), contains("5", "1", "6"));
+
+        List<Map<String, Object>> children = children(roots.get(1));
+        assertThat(children.stream().map(t -> t.get("id")).toList(), contains("2", "3"));
+        assertThat(children(children.get(0)).getFirst().get("id"), is("4"));
+        assertThat(children(roots.getFirst()), empty());
+    }
+
+    @Test
+    void testBuildSubtrees() {
+        List<Map<String, Object>> tasks = List.of(
+            task("1", null, 1),
+            task("2", "1", 1),
+            task("3", "2", 1)
+        );
+
+        List<Map<String, Object>> roots = TaskTree.build(tasks, List.of("2", "unknown"));
+
+        assertThat(roots, hasSize(1));
+        assertThat(roots.getFirst().get("id"), is("2"));
+        assertThat(children(roots.getFirst()).getFirst().get("id"), is("3"));
+    }
+
+    private static Map<String, Object> task(String id, String parentId, int order) {
+        Map<String, Object> task = new HashMap<>();
+        task.put("id", id);
+        task.put("parent_id", parentId);
+        task.put("order", order);
+        return task;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> children(Map<String, Object> node) {
+        return (List<Map<String, Object>>) node.get(TaskTree.CHILDREN);
+    }
+}
@@ -0,0 +1,132 @@
+package io.kestra.plugin.todoist.load;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.junit.annotations.LoadFlows;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.RunnerUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Drives concurrent executions of a CreateTask / GetTask / ListTasks flow through the in-memory runner against
+ * a local {@link TodoistStub}, and prints throughput, task duration percentiles, heap allocation and thread counts.
+ * <p>
+ * Excluded from {@code test}; run it with {@code ./gradlew loadTest}, tuned by the {@code loadTest.executions},
+ * {@code loadTest.concurrency}, {@code loadTest.latency} (ms), {@code loadTest.listSize} and {@code loadTest.warmup}
+ * project properties.
+ */
+@KestraTest(startRunner = true)
+@Tag("load")
+class TodoistLoadTest {
+    private static final String NAMESPACE = "io.kestra.plugin.todoist.load";
+    private static final String FLOW_ID = "todoist-load";
+
+    @Inject
+    private RunnerUtils runnerUtils;
+
+    @Test
+    @LoadFlows({"flows/load/todoist-load.yaml"})
+    void load() throws Exception {
+        int executions = Integer.getInteger("loadTest.executions", 200);
+        int concurrency = Integer.getInteger("loadTest.concurrency", 20);
+        int warmup = Integer.getInteger("loadTest.warmup", 20);
+        int listSize = Integer.getInteger("loadTest.listSize", 50);
+        Duration latency = Duration.ofMillis(Long.getLong("loadTest.latency", 50L));
+
+        try (TodoistStub stub = new TodoistStub(latency, listSize)) {
+            run(warmup, concurrency, stub.endpoint());
+
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            int threadsBefore = threads.getThreadCount();
+            long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+            long requestsBefore = stub.requests();
+            long start = System.nanoTime();
+
+            List<Execution> results = run(executions, concurrency, stub.endpoint());
+
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            long allocated = threads.getTotalThreadAllocatedBytes() - allocatedBefore;
+
+            Map<String, List<Duration>> durations = new TreeMap<>();
+            List<Duration> executionDurations = new ArrayList<>();
+            long failed = 0;
+            for (Execution execution : results) {
+                if (execution.getState().getCurrent() != State.Type.SUCCESS) {
+                    failed++;
+                }
+                executionDurations.add(execution.getState().getDuration());
+                for (TaskRun taskRun : execution.getTaskRunList()) {
+                    durations.computeIfAbsent(taskRun.getTaskId(), k -> new ArrayList<>()).add(taskRun.getState().getDuration());
+                }
+            }
+
+            double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+            System.out.printf("Todoist load test: %d executions, concurrency %d, stub latency %d ms%n",
+                executions, concurrency, latency.toMillis());
+            System.out.printf("  elapsed            %.2f s%n", seconds);
+            System.out.printf("  throughput         %.1f executions/s, %.1f task runs/s%n",
+                executions / seconds, executions * 3 / seconds);
+            System.out.printf("  failed             %d%n", failed);
+            System.out.printf("  execution          p50 %d ms, p99 %d ms%n",
+                percentile(executionDurations, 50).toMillis(), percentile(executionDurations, 99).toMillis());
+            durations.forEach((taskId, values) -> System.out.printf("  %-18s p50 %d ms, p99 %d ms%n",
+                taskId, percentile(values, 50).toMillis(), percentile(values, 99).toMillis()));
+            System.out.printf("  heap allocated     %.1f MiB (%.1f KiB/execution)%n",
+                allocated / 1048576.0, allocated / 1024.0 / executions);
+            System.out.printf("  platform threads   %d before, %d peak%n", threadsBefore, threads.getPeakThreadCount());
+            System.out.printf("  stub requests      %d%n", stub.requests() - requestsBefore);
+
+            assertThat(failed, is(0L));
+            assertThat(stub.requests() - requestsBefore, is(executions * 3L));
+        }
+    }
+
+    private List<Execution> run(int executions, int concurrency, String origin) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency, Thread.ofVirtual().factory())) {
+            List<Future<Execution>> futures = new ArrayList<>(executions);
+            for (int i = 0; i < executions; i++) {
+                futures.add(executor.submit(() -> runnerUtils.runOne(
+                    MAIN_TENANT, NAMESPACE, FLOW_ID, null,
+                    (flow, execution) -> Map.of("origin", origin),
+                    Duration.ofMinutes(5)
+                )));
+            }
+
+            List<Execution> results = new ArrayList<>(executions);
+            for (Future<Execution> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private static Duration percentile(List<Duration> values, int percentile) {
+        if (values.isEmpty()) {
+            return Duration.ZERO;
+        }
+
+        List<Duration> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+}
@@ -0,0 +1,105 @@
+package io.kestra.plugin.todoist.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal in-process stand-in for the Todoist REST API, answering the task endpoints after a fixed latency.
+ * Requests are served on virtual threads, so the stub itself never becomes the bottleneck of a load test.
+ */
+class TodoistStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Duration latency;
+    private final int listSize;
+    private final AtomicLong ids = new AtomicLong(7_000_000_000L);
+    private final AtomicLong requests = new AtomicLong();
+
+    TodoistStub(Duration latency, int listSize) throws IOException {
+        this.latency = latency;
+        this.listSize = listSize;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/rest/v2/tasks", this::handleTasks);
+        this.server.start();
+    }
+
+    /**
+     * Origin to pass as the {@code apiOrigin} of the tasks under test.
+     */
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    private void handleTasks(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            Thread.sleep(latency);
+
+            String path = exchange.getRequestURI().getPath();
+            String id = path.substring("/rest/v2/tasks".length()).replaceFirst("^/", "");
+
+            Object response;
+            if ("POST".equals(exchange.getRequestMethod()) && id.isEmpty()) {
+                Map<String, Object> request = JacksonMapper.ofJson().readValue(body, Map.class);
+                response = task(String.valueOf(ids.incrementAndGet()), (String) request.get("content"));
+            } else if ("GET".equals(exchange.getRequestMethod()) && id.isEmpty()) {
+                List<Map<String, Object>> tasks = new ArrayList<>(listSize);
+                for (int i = 0; i < listSize; i++) {
+                    tasks.add(task(String.valueOf(i + 1), "Stub task " + (i + 1)));
+                }
+                response = tasks;
+            } else if ("GET".equals(exchange.getRequestMethod())) {
+                response = task(id, "Stub task " + id);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] bytes = JacksonMapper.ofJson().writeValueAsBytes(response);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, Object> task(String id, String content) {
+        Map<String, Object> task = new HashMap<>();
+        task.put("id", id);
+        task.put("content", content);
+        task.put("description", "");
+        task.put("project_id", "2203306141");
+        task.put("priority", 1);
+        task.put("order", 1);
+        task.put("is_completed", false);
+        task.put("url", "https://app.todoist.com/app/task/" + id);
+        return task;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,67 @@
+package io.kestra.plugin.todoist.tasks.create;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.plugin.todoist.models.TaskOutput;
+import io.kestra.plugin.todoist.tasks.delete.DeleteTask;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class AddCommentTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testAddComment() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+
+        if (apiToken == null || apiToken.isEmpty()) {
+            System.out.println("Skipping test: TODOIST_API_TOKEN not set");
+            return;
+        }
+
+        RunContext runContext = runContextFactory.of();
+
+        TaskOutput created = CreateTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .content(Property.ofValue("Task for AddComment"))
+            .build()
+            .run(runContext);
+
+        AddComment task = AddComment.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .taskId(Property.ofValue(created.getTaskId()))
+            .content(Property.ofValue("Comment from Kestra"))
+            .build();
+
+        AddComment.Output output = task.run(runContext);
+
+        assertThat(output.getCommentId(), notNullValue());
+        assertThat(output.getContent(), is("Comment from Kestra"));
+        assertThat(output.getFileUrl(), nullValue());
+
+        // Clean up - delete the task
+        DeleteTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .taskId(Property.ofValue(created.getTaskId()))
+            .build()
+            .run(runContext);
+    }
+
+    @Test
+    void testAddCommentRequiresSingleTarget() {
+        AddComment task = AddComment.builder()
+            .apiToken(Property.ofValue("unused"))
+            .content(Property.ofValue("Comment from Kestra"))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContextFactory.of()));
+    }
+}
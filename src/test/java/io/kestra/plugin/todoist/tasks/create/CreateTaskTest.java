@@ -8,6 +8,10 @@ import io.kestra.plugin.todoist.models.TaskOutput;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
@@ -40,4 +44,35 @@ class CreateTaskTest {
         assertThat(output.getContent(), is("Test task from Kestra"));
         assertThat(output.getUrl(), notNullValue());
     }
+
+    @Test
+    void testCreateTasksWithBatching() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+
+        if (apiToken == null || apiToken.isEmpty()) {
+            System.out.println("Skipping test: TODOIST_API_TOKEN not set");
+            return;
+        }
+
+        List<CompletableFuture<TaskOutput>> outputs = IntStream.range(0, 5)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    return CreateTask.builder()
+                        .apiToken(Property.ofValue(apiToken))
+                        .content(Property.ofValue("Batched task " + i))
+                        .batching(Property.ofValue(true))
+                        .build()
+                        .run(runContextFactory.of());
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }))
+            .toList();
+
+        for (int i = 0; i < outputs.size(); i++) {
+            TaskOutput output = outputs.get(i).get();
+            assertThat(output.getTaskId(), notNullValue());
+            assertThat(output.getContent(), is("Batched task " + i));
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package io.kestra.plugin.todoist.tasks.create;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.todoist.common.FileFormat;
+import io.kestra.plugin.todoist.common.RecordReader;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class ImportTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testImportTasks() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+
+        if (apiToken == null || apiToken.isEmpty()) {
+            System.out.println("Skipping test: TODOIST_API_TOKEN not set");
+            return;
+        }
+
+        RunContext runContext = runContextFactory.of();
+
+        Path source = runContext.workingDir().createTempFile(FileFormat.ION.extension());
+        try (OutputStream output = Files.newOutputStream(source)) {
+            FileSerde.write(output, Map.of("key", "parent", "title", "Imported parent task"));
+            FileSerde.write(output, Map.of("key", "child", "parent", "parent", "title", "Imported child task", "priority", "2"));
+        }
+        URI uri = runContext.storage().putFile(source.toFile());
+
+        ImportTasks task = ImportTasks.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .from(Property.ofValue(uri.toString()))
+            .mapping(Property.ofValue(Map.of("content", "title")))
+            .tempIdColumn(Property.ofValue("key"))
+            .parentColumn(Property.ofValue("parent"))
+            .build();
+
+        ImportTasks.Output output = task.run(runContext);
+
+        assertThat(output.getSucceeded(), is(2L));
+        assertThat(output.getFailed(), is(0L));
+        assertThat(output.getUri(), notNullValue());
+
+        // resuming from a complete run has nothing left to import
+        ImportTasks resume = ImportTasks.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .from(Property.ofValue(uri.toString()))
+            .mapping(Property.ofValue(Map.of("content", "title")))
+            .tempIdColumn(Property.ofValue("key"))
+            .parentColumn(Property.ofValue("parent"))
+            .resumeFrom(Property.ofValue(output.getUri().toString()))
+            .build();
+
+        ImportTasks.Output resumed = resume.run(runContext);
+
+        assertThat(resumed.getSucceeded(), is(0L));
+        assertThat(resumed.getSkipped(), is(2L));
+    }
+
+    @Test
+    void testImportTasksReportsInvalidRows() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Path source = runContext.workingDir().createTempFile(FileFormat.ION.extension());
+        try (OutputStream output = Files.newOutputStream(source)) {
+            FileSerde.write(output, Map.of("title", "Imported from a Jira export", "priority", "High"));
+        }
+        URI uri = runContext.storage().putFile(source.toFile());
+
+        // the only row is rejected before any request is sent
+        ImportTasks task = ImportTasks.builder()
+            .apiToken(Property.ofValue("unused"))
+            .from(Property.ofValue(uri.toString()))
+            .mapping(Property.ofValue(Map.of("content", "title")))
+            .build();
+
+        ImportTasks.Output output = task.run(runContext);
+
+        assertThat(output.getSucceeded(), is(0L));
+        assertThat(output.getFailed(), is(1L));
+
+        try (InputStream input = runContext.storage().getFile(output.getUri());
+             RecordReader results = RecordReader.of(FileFormat.ION, input)) {
+            Map<String, Object> result = results.next();
+            assertThat(((Number) result.get("row")).longValue(), is(1L));
+            assertThat(result.get("status"), is("ERROR"));
+            assertThat(result.get("error").toString(), containsString("Invalid row"));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.kestra.plugin.todoist.tasks.create;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.plugin.todoist.models.TaskOutput;
+import io.kestra.plugin.todoist.tasks.delete.DeleteTask;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class UploadAttachmentTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testUploadAttachment() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+
+        if (apiToken == null || apiToken.isEmpty()) {
+            System.out.println("Skipping test: TODOIST_API_TOKEN not set");
+            return;
+        }
+
+        RunContext runContext = runContextFactory.of();
+
+        TaskOutput created = CreateTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .content(Property.ofValue("Task for UploadAttachment"))
+            .build()
+            .run(runContext);
+
+        Path source = runContext.workingDir().createTempFile(".txt");
+        Files.writeString(source, "Attachment uploaded by the Kestra Todoist plugin\n".repeat(1000), StandardCharsets.UTF_8);
+        URI uri = runContext.storage().putFile(source.toFile());
+
+        UploadAttachment task = UploadAttachment.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .from(Property.ofValue(uri.toString()))
+            .fileName(Property.ofValue("attachment.txt"))
+            .taskId(Property.ofValue(created.getTaskId()))
+            .build();
+
+        UploadAttachment.Output output = task.run(runContext);
+
+        assertThat(output.getFileName(), is("attachment.txt"));
+        assertThat(output.getFileUrl(), notNullValue());
+        assertThat(output.getFileSize(), is(Files.size(source)));
+        assertThat(output.getCommentId(), notNullValue());
+
+        // Clean up - delete the task
+        DeleteTask.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .taskId(Property.ofValue(created.getTaskId()))
+            .build()
+            .run(runContext);
+    }
+}
@@ -0,0 +1,45 @@
+package io.kestra.plugin.todoist.tasks.read;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class ArchiveCompletedTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testArchiveCompletedTasks() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+
+        if (apiToken == null || apiToken.isEmpty()) {
+            System.out.println("Skipping test: TODOIST_API_TOKEN not set");
+            return;
+        }
+
+        RunContext runContext = runContextFactory.of();
+
+        ArchiveCompletedTasks task = ArchiveCompletedTasks.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .watermarkKey(Property.ofValue("todoist-test-watermark"))
+            .build();
+
+        ArchiveCompletedTasks.Output first = task.run(runContext);
+
+        assertThat(first.getUri(), notNullValue());
+        assertThat(first.getCount(), greaterThanOrEqualTo(0L));
+
+        // the second run starts from the stored watermark, so nothing already archived is fetched again
+        ArchiveCompletedTasks.Output second = task.run(runContext);
+
+        assertThat(second.getCount(), is(0L));
+        assertThat(second.getWatermark(), is(first.getWatermark()));
+    }
+}
@@ -0,0 +1,140 @@
+package io.kestra.plugin.todoist.tasks.read;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.todoist.client.AdaptiveConcurrencyLimiter;
+import io.kestra.plugin.todoist.client.Cassette;
+import io.kestra.plugin.todoist.common.FileFormat;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@KestraTest
+class ExportTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testExportTasks() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+
+        if (apiToken == null || apiToken.isEmpty()) {
+            System.out.println("Skipping test: TODOIST_API_TOKEN not set");
+            return;
+        }
+
+        RunContext runContext = runContextFactory.of();
+
+        ExportTasks task = ExportTasks.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .format(Property.ofValue(FileFormat.CSV))
+            .includeCompleted(Property.ofValue(true))
+            .build();
+
+        ExportTasks.Output output = task.run(runContext);
+
+        assertThat(output.getUri(), notNullValue());
+        assertThat(output.getTaskCount(), greaterThanOrEqualTo(0L));
+        assertThat(output.getCompletedUri(), notNullValue());
+        assertThat(output.getCommentsUri(), nullValue());
+    }
+
+    @Test
+    void testExportCommentsUsesCommentColumnsReplay() throws Exception {
+        Cassette.install(Path.of(Objects.requireNonNull(getClass().getClassLoader().getResource("cassettes/tasks.json")).toURI()), Cassette.Mode.REPLAY);
+
+        try {
+            RunContext runContext = runContextFactory.of();
+
+            ExportTasks.Output output = ExportTasks.builder()
+                .apiToken(Property.ofValue("replayed"))
+                .projectId(Property.ofValue("2203306142"))
+                .format(Property.ofValue(FileFormat.CSV))
+                .includeComments(Property.ofValue(true))
+                .build()
+                .run(runContext);
+
+            assertThat(output.getTaskCount(), is(1L));
+            assertThat(output.getCommentCount(), is(1L));
+
+            try (InputStream input = runContext.storage().getFile(output.getCommentsUri())) {
+                String csv = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+                assertThat(csv, startsWith("id,task_id,project_id,posted_at,content,attachment\r\n"));
+                assertThat(csv, containsString("2992679862,7498765440,,2025-06-02T09:15:00.000000Z,Looks good,"));
+            }
+        } finally {
+            Cassette.uninstall();
+        }
+    }
+
+    @Test
+    void testExportCommentsWithLimitOfOne() throws Exception {
+        String apiToken = "limit-of-one";
+
+        // two overloaded responses bring the limiter shared by the token down to a single request in flight
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.forToken(apiToken);
+        while (limiter.getLimit() > 1) {
+            limiter.acquire();
+            limiter.release(Duration.ZERO, true);
+        }
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/rest/v2/tasks", exchange -> {
+            List<Map<String, Object>> tasks = new ArrayList<>();
+            for (int i = 1; i <= 20; i++) {
+                tasks.add(Map.of("id", String.valueOf(i), "content", "Task " + i, "comment_count", 1));
+            }
+            respond(exchange, tasks);
+        });
+        server.createContext("/rest/v2/comments", exchange -> respond(exchange, List.of(
+            Map.of("id", "c" + exchange.getRequestURI().getQuery(), "content", "A comment")
+        )));
+        server.start();
+
+        try {
+            RunContext runContext = runContextFactory.of();
+
+            // the comments are fetched while the tasks are streamed: the stream must not hold the only permit
+            ExportTasks.Output output = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> ExportTasks.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .apiOrigin(Property.ofValue("http://127.0.0.1:" + server.getAddress().getPort()))
+                .includeComments(Property.ofValue(true))
+                .build()
+                .run(runContext));
+
+            assertThat(output.getTaskCount(), is(20L));
+            assertThat(output.getCommentCount(), is(20L));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, Object response) throws IOException {
+        byte[] bytes = JacksonMapper.ofJson().writeValueAsBytes(response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
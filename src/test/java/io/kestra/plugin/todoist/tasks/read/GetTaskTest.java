@@ -4,14 +4,20 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.plugin.todoist.client.Cassette;
+import io.kestra.plugin.todoist.client.TodoistApiException;
 import io.kestra.plugin.todoist.tasks.create.CreateTask;
 import io.kestra.plugin.todoist.tasks.update.CompleteTask;
 import io.kestra.plugin.todoist.models.TaskOutput;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
+import java.util.Objects;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
 class GetTaskTest {
@@ -56,4 +62,31 @@ class GetTaskTest {
             .build();
         completeTask.run(runContext);
     }
+
+    @Test
+    void testGetTaskReplay() throws Exception {
+        Cassette.install(Path.of(Objects.requireNonNull(getClass().getClassLoader().getResource("cassettes/tasks.json")).toURI()), Cassette.Mode.REPLAY);
+
+        try {
+            RunContext runContext = runContextFactory.of();
+
+            GetTask.Output output = GetTask.builder()
+                .apiToken(Property.ofValue("replayed"))
+                .taskId(Property.ofValue("7498765432"))
+                .build()
+                .run(runContext);
+
+            assertThat(output.getTask().get("content"), is("Write release notes"));
+
+            TodoistApiException exception = assertThrows(TodoistApiException.class, () -> GetTask.builder()
+                .apiToken(Property.ofValue("replayed"))
+                .taskId(Property.ofValue("404"))
+                .build()
+                .run(runContext));
+
+            assertThat(exception.getStatusCode(), is(404));
+        } finally {
+            Cassette.uninstall();
+        }
+    }
 }
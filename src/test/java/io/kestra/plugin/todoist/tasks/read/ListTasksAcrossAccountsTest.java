@@ -0,0 +1,46 @@
+package io.kestra.plugin.todoist.tasks.read;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class ListTasksAcrossAccountsTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testListTasksAcrossAccounts() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+
+        if (apiToken == null || apiToken.isEmpty()) {
+            System.out.println("Skipping test: TODOIST_API_TOKEN not set");
+            return;
+        }
+
+        RunContext runContext = runContextFactory.of();
+
+        ListTasksAcrossAccounts task = ListTasksAcrossAccounts.builder()
+            .apiTokens(Property.ofValue(Map.of(
+                "valid", apiToken,
+                "invalid", "not-a-token"
+            )))
+            .build();
+
+        ListTasksAcrossAccounts.Output output = task.run(runContext);
+
+        // the invalid account fails on its own without failing the run
+        assertThat(output.getUri(), notNullValue());
+        assertThat(output.getCounts(), hasKey("valid"));
+        assertThat(output.getErrors(), hasKey("invalid"));
+        assertThat(output.getCount(), is(output.getCounts().get("valid")));
+    }
+}
@@ -4,9 +4,15 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.plugin.todoist.client.Cassette;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
@@ -36,4 +42,74 @@ class ListTasksTest {
         assertThat(output.getCount(), notNullValue());
         assertThat(output.getCount(), greaterThanOrEqualTo(0));
     }
+
+    @Test
+    void testListTasksSpillsToStorage() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+
+        if (apiToken == null || apiToken.isEmpty()) {
+            System.out.println("Skipping test: TODOIST_API_TOKEN not set");
+            return;
+        }
+
+        RunContext runContext = runContextFactory.of();
+
+        ListTasks task = ListTasks.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .maxInlineOutputSize(Property.ofValue(0L))
+            .build();
+
+        ListTasks.Output output = task.run(runContext);
+
+        assertThat(output.getTasks(), nullValue());
+        assertThat(output.getUri(), notNullValue());
+        assertThat(output.getCount(), greaterThanOrEqualTo(0));
+    }
+
+    @Test
+    void testListTasksInParallel() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+
+        if (apiToken == null || apiToken.isEmpty()) {
+            System.out.println("Skipping test: TODOIST_API_TOKEN not set");
+            return;
+        }
+
+        RunContext runContext = runContextFactory.of();
+
+        ListTasks.Output serial = ListTasks.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .build()
+            .run(runContext);
+
+        ListTasks.Output parallel = ListTasks.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .parallelism(Property.ofValue(4))
+            .build()
+            .run(runContext);
+
+        assertThat(parallel.getCount(), is(serial.getCount()));
+    }
+
+    @Test
+    void testListTasksTreeReplay() throws Exception {
+        Cassette.install(Path.of(Objects.requireNonNull(getClass().getClassLoader().getResource("cassettes/tasks.json")).toURI()), Cassette.Mode.REPLAY);
+
+        try {
+            ListTasks.Output output = ListTasks.builder()
+                .apiToken(Property.ofValue("replayed"))
+                .outputMode(Property.ofValue(ListTasks.OutputMode.TREE))
+                .build()
+                .run(runContextFactory.of());
+
+            assertThat(output.getCount(), is(3));
+            assertThat(output.getTasks(), hasSize(1));
+
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> children = (List<Map<String, Object>>) output.getTasks().getFirst().get("children");
+            assertThat(children.stream().map(t -> t.get("content")).toList(), contains("Collect merged changes", "Publish the notes"));
+        } finally {
+            Cassette.uninstall();
+        }
+    }
 }
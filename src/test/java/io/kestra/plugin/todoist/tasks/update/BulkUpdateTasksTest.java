@@ -0,0 +1,82 @@
+package io.kestra.plugin.todoist.tasks.update;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.plugin.todoist.models.TaskOutput;
+import io.kestra.plugin.todoist.tasks.create.CreateTask;
+import io.kestra.plugin.todoist.tasks.delete.DeleteTask;
+import io.kestra.plugin.todoist.tasks.read.GetTask;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class BulkUpdateTasksTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void testBulkUpdateTasks() throws Exception {
+        String apiToken = System.getenv("TODOIST_API_TOKEN");
+
+        if (apiToken == null || apiToken.isEmpty()) {
+            System.out.println("Skipping test: TODOIST_API_TOKEN not set");
+            return;
+        }
+
+        RunContext runContext = runContextFactory.of();
+        String marker = UUID.randomUUID().toString();
+
+        List<TaskOutput> created = new ArrayList<>();
+        for (String name : List.of("first", "second")) {
+            created.add(CreateTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .content(Property.ofValue("Task for BulkUpdateTasks " + name + " " + marker))
+                .priority(Property.ofValue(1))
+                .build()
+                .run(runContext));
+        }
+
+        BulkUpdateTasks task = BulkUpdateTasks.builder()
+            .apiToken(Property.ofValue(apiToken))
+            .filter(Property.ofValue("search: " + marker))
+            .priority(Property.ofValue(4))
+            .content(Property.ofExpression("{{ task.content }} (updated)"))
+            .build();
+
+        BulkUpdateTasks.Output output = task.run(runContext);
+
+        assertThat(output.getMatched(), is(2));
+        assertThat(output.getChanged(), is(2));
+        assertThat(output.getFailed(), is(0));
+
+        List<String> names = List.of("first", "second");
+        for (int i = 0; i < created.size(); i++) {
+            GetTask.Output updated = GetTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .taskId(Property.ofValue(created.get(i).getTaskId()))
+                .build()
+                .run(runContext);
+
+            assertThat(updated.getTask().get("priority"), is(4));
+            assertThat(updated.getTask().get("content"), is("Task for BulkUpdateTasks " + names.get(i) + " " + marker + " (updated)"));
+        }
+
+        // Clean up - delete the tasks
+        for (TaskOutput createdTask : created) {
+            DeleteTask.builder()
+                .apiToken(Property.ofValue(apiToken))
+                .taskId(Property.ofValue(createdTask.getTaskId()))
+                .build()
+                .run(runContext);
+        }
+    }
+}
@@ -4,11 +4,15 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.plugin.todoist.client.Cassette;
 import io.kestra.plugin.todoist.tasks.create.CreateTask;
 import io.kestra.plugin.todoist.models.TaskOutput;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
+import java.util.Objects;
+
 @KestraTest
 class CompleteTaskTest {
     @Inject
@@ -43,4 +47,21 @@ class CompleteTaskTest {
         
         // If no exception is thrown, the task was completed successfully
     }
+
+    @Test
+    void testCompleteTaskWithBatchingReplay() throws Exception {
+        Cassette.install(Path.of(Objects.requireNonNull(getClass().getClassLoader().getResource("cassettes/tasks.json")).toURI()), Cassette.Mode.REPLAY);
+
+        try {
+            // the recorded command ids are swapped for the new ones, so the batcher finds its command acknowledged
+            CompleteTask.builder()
+                .apiToken(Property.ofValue("replayed"))
+                .taskId(Property.ofValue("7498765432"))
+                .batching(Property.ofValue(true))
+                .build()
+                .run(runContextFactory.of());
+        } finally {
+            Cassette.uninstall();
+        }
+    }
 }
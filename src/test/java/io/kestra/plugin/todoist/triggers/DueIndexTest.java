@@ -0,0 +1,93 @@
+package io.kestra.plugin.todoist.triggers;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class DueIndexTest {
+    private static final Instant NOW = Instant.parse("2025-06-01T10:00:00Z");
+
+    @Test
+    void testFiresWhenDue() {
+        DueIndex index = new DueIndex(ZoneId.of("UTC"), false);
+
+        index.apply(List.of(
+            item("1", Map.of("date", "2025-06-01T10:05:00Z")),
+            item("2", Map.of("date", "2025-06-01T10:10:00Z")),
+            item("3", Map.of("date", "2025-06-01"))
+        ), "token-1", NOW);
+
+        assertThat(index.size(), is(2));
+        assertThat(index.pollDue(NOW), empty());
+        assertThat(ids(index.pollDue(NOW.plusSeconds(6 * 60))), contains("1"));
+        assertThat(index.pollDue(NOW.plusSeconds(7 * 60)), empty());
+        assertThat(ids(index.pollDue(NOW.plusSeconds(60 * 60))), contains("2"));
+    }
+
+    @Test
+    void testSkipsTasksAlreadyDueOnFirstLoad() {
+        DueIndex index = new DueIndex(ZoneId.of("UTC"), false);
+
+        index.apply(List.of(item("1", Map.of("date", "2025-06-01T09:00:00Z"))), "token-1", NOW);
+
+        assertThat(index.pollDue(NOW), empty());
+    }
+
+    @Test
+    void testAppliesDeltas() {
+        DueIndex index = new DueIndex(ZoneId.of("UTC"), false);
+
+        index.apply(List.of(
+            item("1", Map.of("date", "2025-06-01T10:05:00Z")),
+            item("2", Map.of("date", "2025-06-01T10:05:00Z"))
+        ), "token-1", NOW);
+
+        Map<String, Object> completed = item("1", Map.of("date", "2025-06-01T10:05:00Z"));
+        completed.put("checked", true);
+        index.apply(List.of(completed, item("2", Map.of("date", "2025-06-01T11:00:00Z"))), "token-2", NOW);
+
+        assertThat(index.syncToken(), is("token-2"));
+        assertThat(index.pollDue(NOW.plusSeconds(10 * 60)), empty());
+        assertThat(ids(index.pollDue(NOW.plusSeconds(60 * 60))), contains("2"));
+    }
+
+    @Test
+    void testRecurringTaskFiresForEachOccurrence() {
+        DueIndex index = new DueIndex(ZoneId.of("UTC"), false);
+
+        index.apply(List.of(item("1", Map.of("date", "2025-06-01T10:05:00Z", "is_recurring", true))), "token-1", NOW);
+        assertThat(ids(index.pollDue(NOW.plusSeconds(10 * 60))), contains("1"));
+
+        // completing a recurring task moves its due date to the next occurrence
+        index.apply(List.of(item("1", Map.of("date", "2025-06-02T10:05:00Z", "is_recurring", true))), "token-2", NOW.plusSeconds(20 * 60));
+        assertThat(ids(index.pollDue(Instant.parse("2025-06-02T10:06:00Z"))), contains("1"));
+    }
+
+    @Test
+    void testResolvesTimeZones() {
+        DueIndex index = new DueIndex(ZoneId.of("Europe/Paris"), true);
+
+        assertThat(index.dueInstant(item("1", Map.of("date", "2025-06-01T12:00:00"))), is(Instant.parse("2025-06-01T10:00:00Z")));
+        assertThat(index.dueInstant(item("1", Map.of("date", "2025-06-01T12:00:00", "timezone", "America/New_York"))), is(Instant.parse("2025-06-01T16:00:00Z")));
+        assertThat(index.dueInstant(item("1", Map.of("date", "2025-06-01"))), is(Instant.parse("2025-05-31T22:00:00Z")));
+        assertThat(index.dueInstant(item("1", null)), nullValue());
+    }
+
+    private static Map<String, Object> item(String id, Map<String, Object> due) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("id", id);
+        item.put("due", due);
+        return item;
+    }
+
+    private static List<Object> ids(List<Map<String, Object>> tasks) {
+        return tasks.stream().map(t -> t.get("id")).toList();
+    }
+}